@@ -1,5 +1,7 @@
 package com.coincommunity.backend.config;
 
+import com.coincommunity.backend.service.CacheBudgetService;
+import com.coincommunity.backend.service.CacheMetricsService;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -31,7 +34,7 @@ import java.util.Map;
  * - 다층 캐시 아키텍처
  * - 캐시별 TTL 최적화
  * - 직렬화 성능 최적화
- * - 캐시 히트율 모니터링
+ * - 캐시 히트율 모니터링 (InstrumentedCacheManager, /actuator/cachestats)
  * - 메모리 효율성 관리
  * 
  * @author CoinCommunity Backend Team
@@ -48,6 +51,9 @@ public class AdvancedCacheConfig {
     @Value("${app.cache.coin-price-ttl:60}")
     private long coinPriceTtlSeconds;
 
+    @Value("${app.cache.negative-result-ttl:30}")
+    private long negativeResultTtlSeconds;
+
     @Value("${app.cache.user-data-ttl:1800}")
     private long userDataTtlSeconds;
 
@@ -60,13 +66,17 @@ public class AdvancedCacheConfig {
     @Value("${app.cache.statistics-ttl:900}")
     private long statisticsTtlSeconds;
 
+    @Value("${app.cache.max-key-length:200}")
+    private int maxKeyLength;
+
     /**
      * Redis 기반 캐시 매니저 설정
      * 캐시별 TTL과 직렬화 전략 최적화
      */
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheMetricsService cacheMetricsService,
+                                     CacheBudgetService cacheBudgetService) {
         // JSON 직렬화 설정
         ObjectMapper objectMapper = createOptimizedObjectMapper();
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
@@ -88,9 +98,21 @@ public class AdvancedCacheConfig {
                 .transactionAware()
                 .build();
 
+        // 래핑된 매니저는 빈 초기화 콜백을 받지 않으므로 캐시별 설정을 직접 로드
+        cacheManager.afterPropertiesSet();
+
         log.info("고급 Redis 캐시 매니저 초기화 완료 - 캐시 수: {}", cacheConfigurations.size());
         
-        return cacheManager;
+        return new InstrumentedCacheManager("cacheManager", cacheManager, cacheMetricsService, cacheBudgetService);
+    }
+
+    /**
+     * 필터 DTO / Pageable 파라미터용 정규화 키 생성기
+     * 사용 예: @Cacheable(value = "userTransactions", keyGenerator = "canonicalKeyGenerator")
+     */
+    @Bean
+    public KeyGenerator canonicalKeyGenerator() {
+        return new CanonicalCacheKeyGenerator(maxKeyLength);
     }
 
     /**
@@ -111,6 +133,11 @@ public class AdvancedCacheConfig {
                 .entryTtl(Duration.ofSeconds(coinPriceTtlSeconds))
                 .prefixCacheNameWith("price:"));
 
+        // 존재하지 않는 코인/거래소 조합 툼스톤 (짧은 TTL)
+        configs.put("coinPriceTombstones", baseConfig
+                .entryTtl(Duration.ofSeconds(negativeResultTtlSeconds))
+                .prefixCacheNameWith("price-miss:"));
+
         configs.put("coinPriceHistory", baseConfig
                 .entryTtl(Duration.ofMinutes(5))
                 .prefixCacheNameWith("price-history:"));
@@ -185,7 +212,8 @@ public class AdvancedCacheConfig {
      * API 호출 결과와 같이 TTL이 중요한 데이터에 사용
      */
     @Bean(name = "ttlCacheManager")
-    public CacheManager ttlCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager ttlCacheManager(RedisConnectionFactory connectionFactory, CacheMetricsService cacheMetricsService,
+                                        CacheBudgetService cacheBudgetService) {
         // JSON 직렬화 설정
         ObjectMapper objectMapper = createOptimizedObjectMapper();
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
@@ -239,9 +267,11 @@ public class AdvancedCacheConfig {
                 .transactionAware()
                 .build();
 
+        ttlCacheManager.afterPropertiesSet();
+
         log.info("TTL 기반 Redis 캐시 매니저 초기화 완료 - 캐시 수: {}, 기본 TTL: 3분", cacheConfigurations.size());
 
-        return ttlCacheManager;
+        return new InstrumentedCacheManager("ttlCacheManager", ttlCacheManager, cacheMetricsService, cacheBudgetService);
     }
 
     /**
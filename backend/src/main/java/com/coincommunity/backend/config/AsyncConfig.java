@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -25,7 +27,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements WebMvcConfigurer {
 
     @Value("${app.async.notification.core-pool-size:10}")
     private int notificationCorePoolSize;
@@ -45,6 +47,42 @@ public class AsyncConfig {
     @Value("${app.async.general.queue-capacity:500}")
     private int generalQueueCapacity;
 
+    @Value("${app.async.websocket-send.core-pool-size:4}")
+    private int webSocketSendCorePoolSize;
+
+    @Value("${app.async.websocket-send.max-pool-size:16}")
+    private int webSocketSendMaxPoolSize;
+
+    @Value("${app.async.websocket-send.queue-capacity:10000}")
+    private int webSocketSendQueueCapacity;
+
+    @Value("${app.async.notification-retry.core-pool-size:2}")
+    private int notificationRetryCorePoolSize;
+
+    @Value("${app.async.notification-retry.max-pool-size:8}")
+    private int notificationRetryMaxPoolSize;
+
+    @Value("${app.async.notification-retry.queue-capacity:1000}")
+    private int notificationRetryQueueCapacity;
+
+    @Value("${app.async.mvc.core-pool-size:4}")
+    private int mvcCorePoolSize;
+
+    @Value("${app.async.mvc.max-pool-size:16}")
+    private int mvcMaxPoolSize;
+
+    @Value("${app.async.mvc.queue-capacity:2000}")
+    private int mvcQueueCapacity;
+
+    /**
+     * Spring MVC 비동기 처리(SSE 등 리액티브 반환값의 응답 쓰기)에 전용 스레드 풀 사용
+     * (지정하지 않으면 요청마다 스레드를 생성하는 SimpleAsyncTaskExecutor로 동작)
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
+
     /**
      * 알림 전용 스레드 풀
      * 실시간 알림 처리를 위한 고성능 설정
@@ -103,4 +141,76 @@ public class AsyncConfig {
         
         return executor;
     }
+
+    /**
+     * WebSocket 송신 전용 스레드 풀
+     * 세션별 송신 큐를 비우는 작업을 실행하며, 세션당 동시에 하나의 작업만 실행됨
+     */
+    @Bean(name = "webSocketSendExecutor")
+    public Executor webSocketSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(webSocketSendCorePoolSize);
+        executor.setMaxPoolSize(webSocketSendMaxPoolSize);
+        executor.setQueueCapacity(webSocketSendQueueCapacity);
+        executor.setThreadNamePrefix("WsSend-");
+        // 거부 정책: 예외 발생 (호출자 실행 시 브로드캐스트 스레드가 느린 세션에 묶이므로 사용하지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        
+        executor.initialize();
+        
+        log.info("WebSocket 송신 스레드 풀 초기화 완료: 코어={}, 최대={}, 큐용량={}", 
+                webSocketSendCorePoolSize, webSocketSendMaxPoolSize, webSocketSendQueueCapacity);
+        
+        return executor;
+    }
+
+    /**
+     * MVC 비동기 응답 쓰기 전용 스레드 풀
+     * SSE 구독자별 이벤트 쓰기를 실행하며, 구독자 수와 무관하게 스레드 수가 제한됨
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(mvcCorePoolSize);
+        executor.setMaxPoolSize(mvcMaxPoolSize);
+        executor.setQueueCapacity(mvcQueueCapacity);
+        executor.setThreadNamePrefix("MvcAsync-");
+        // 거부 정책: 호출자가 직접 실행 (큐가 가득 찬 경우에만 발행 스레드가 쓰기를 대신해 속도를 늦춤)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        
+        executor.initialize();
+        
+        log.info("MVC 비동기 스레드 풀 초기화 완료: 코어={}, 최대={}, 큐용량={}", 
+                mvcCorePoolSize, mvcMaxPoolSize, mvcQueueCapacity);
+        
+        return executor;
+    }
+
+    /**
+     * 알림 재시도 전용 스레드 풀
+     * 타이머 휠에서 만료된 재시도를 실행하며, 공유 알림 풀이 포화되어도 영향을 주고받지 않음
+     */
+    @Bean(name = "notificationRetryExecutor")
+    public Executor notificationRetryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(notificationRetryCorePoolSize);
+        executor.setMaxPoolSize(notificationRetryMaxPoolSize);
+        executor.setQueueCapacity(notificationRetryQueueCapacity);
+        executor.setThreadNamePrefix("NotifRetry-");
+        // 거부 정책: 예외 발생 (호출자 실행 시 타이머 휠 틱 스레드가 멈추므로 사용하지 않고, 휠이 다음 틱에 다시 넘김)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        
+        executor.initialize();
+        
+        log.info("알림 재시도 스레드 풀 초기화 완료: 코어={}, 최대={}, 큐용량={}", 
+                notificationRetryCorePoolSize, notificationRetryMaxPoolSize, notificationRetryQueueCapacity);
+        
+        return executor;
+    }
 }
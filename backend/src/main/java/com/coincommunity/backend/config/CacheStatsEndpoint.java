@@ -0,0 +1,34 @@
+package com.coincommunity.backend.config;
+
+import com.coincommunity.backend.service.CacheMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 캐시 통계 Actuator 엔드포인트
+ *
+ * - GET /actuator/cachestats : 전체 캐시 통계
+ * - GET /actuator/cachestats/{name} : 특정 캐시 통계
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final CacheMetricsService cacheMetricsService;
+
+    @ReadOperation
+    public List<CacheMetricsService.CacheStatsSnapshot> caches() {
+        return cacheMetricsService.getSnapshots();
+    }
+
+    @ReadOperation
+    public List<CacheMetricsService.CacheStatsSnapshot> cache(@Selector String name) {
+        return cacheMetricsService.getSnapshots(name);
+    }
+}
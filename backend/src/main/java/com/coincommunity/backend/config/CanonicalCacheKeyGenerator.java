@@ -0,0 +1,135 @@
+package com.coincommunity.backend.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 정규화된 캐시 키 생성기
+ *
+ * hashCode() 기반 키는 JVM마다 값이 달라지거나 충돌할 수 있고, 페이지 번호만 포함한 키는
+ * 페이지 크기/정렬이 다른 요청을 같은 키로 묶어 버립니다. 이 생성기는 파라미터를 타입별로
+ * 안정적인 문자열로 인코딩합니다.
+ * - Pageable: 페이지 번호, 크기, 정렬 조건
+ * - 필터 DTO: null 필드를 제외하고 필드명 순으로 정렬한 JSON
+ * - 길이가 긴 키: 앞부분 + SHA-256 해시
+ */
+public class CanonicalCacheKeyGenerator implements KeyGenerator {
+
+    private static final String NULL_TOKEN = "~";
+    private static final String SEPARATOR = ":";
+    private static final int READABLE_PREFIX_LENGTH = 64;
+
+    private final int maxKeyLength;
+
+    // 어노테이션(@JsonFormat, @JsonNaming 등)을 무시해야 날짜 포맷에 의해 값이 잘리지 않음
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(MapperFeature.USE_ANNOTATIONS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    public CanonicalCacheKeyGenerator(int maxKeyLength) {
+        this.maxKeyLength = Math.max(maxKeyLength, READABLE_PREFIX_LENGTH * 2);
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String key = Arrays.stream(params)
+                .map(this::encode)
+                .collect(Collectors.joining(SEPARATOR));
+        return key.length() > maxKeyLength ? shorten(key) : key;
+    }
+
+    private String encode(Object value) {
+        if (value == null) {
+            return NULL_TOKEN;
+        }
+        if (value instanceof CharSequence || value instanceof Boolean || value instanceof Enum<?>) {
+            return value.toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Number || value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        if (value instanceof Pageable pageable) {
+            return encodePageable(pageable);
+        }
+        if (value instanceof Sort sort) {
+            return encodeSort(sort);
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(this::encode).collect(Collectors.joining(",", "[", "]"));
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, String> sorted = new TreeMap<>();
+            map.forEach((k, v) -> sorted.put(String.valueOf(k), encode(v)));
+            return sorted.toString();
+        }
+        return encodeObject(value);
+    }
+
+    private String encodePageable(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged" + (pageable.getSort().isSorted() ? "," + encodeSort(pageable.getSort()) : "");
+        }
+        return "p" + pageable.getPageNumber() + ",s" + pageable.getPageSize() + "," + encodeSort(pageable.getSort());
+    }
+
+    private String encodeSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "unsorted";
+        }
+        return sort.stream()
+                .map(order -> order.getProperty() + "." + order.getDirection().name().toLowerCase()
+                        + (order.isIgnoreCase() ? ".ic" : ""))
+                .collect(Collectors.joining("|"));
+    }
+
+    private String encodeObject(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("캐시 키로 변환할 수 없는 파라미터입니다: " + value.getClass().getName(), e);
+        }
+    }
+
+    private String shorten(String key) {
+        return key.substring(0, READABLE_PREFIX_LENGTH) + "#" + sha256(key);
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.coincommunity.backend.config;
+
+import com.coincommunity.backend.service.CacheBudgetService;
+import com.coincommunity.backend.service.CacheMetricsService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 사용 통계를 수집하는 CacheManager 데코레이터
+ *
+ * 실제 캐시 동작은 위임 대상(RedisCacheManager)이 수행하고,
+ * 이 클래스는 조회 적중/실패, 저장, 제거 및 로딩 시간을 {@link CacheMetricsService}에 기록하고,
+ * 메모리 예산이 설정된 캐시는 {@link CacheBudgetService}로 엔트리 크기를 관리합니다.
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final String managerName;
+    private final CacheManager delegate;
+    private final CacheMetricsService cacheMetricsService;
+    private final CacheBudgetService cacheBudgetService;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public InstrumentedCacheManager(String managerName, CacheManager delegate,
+                                    CacheMetricsService cacheMetricsService, CacheBudgetService cacheBudgetService) {
+        this.managerName = managerName;
+        this.delegate = delegate;
+        this.cacheMetricsService = cacheMetricsService;
+        this.cacheBudgetService = cacheBudgetService;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache target = delegate.getCache(cacheName);
+            if (target == null) {
+                return null;
+            }
+            CacheMetricsService.CacheStats stats = cacheMetricsService.register(managerName, target);
+            return new InstrumentedCache(target, stats, cacheBudgetService.budgetFor(target));
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 통계 수집용 Cache 래퍼
+     *
+     * {@code @Cacheable}은 같은 스레드에서 get(미스) → 메소드 실행 → put 순으로 동작하므로,
+     * 미스 시점을 ThreadLocal에 기록해 두었다가 같은 키의 put에서 로딩 시간을 계산합니다.
+     */
+    public static class InstrumentedCache implements Cache {
+
+        private static final ThreadLocal<PendingLoad> PENDING_LOAD = new ThreadLocal<>();
+
+        private final Cache target;
+        private final CacheMetricsService.CacheStats stats;
+        private final CacheBudgetService.Budget budget;
+
+        InstrumentedCache(Cache target, CacheMetricsService.CacheStats stats, CacheBudgetService.Budget budget) {
+            this.target = target;
+            this.stats = stats;
+            this.budget = budget;
+        }
+
+        /**
+         * 위임 대상 캐시 (트랜잭션 인지 데코레이터일 수 있음)
+         */
+        public Cache getTargetCache() {
+            return target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = target.get(key);
+            recordLookup(key, value != null);
+            return value;
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            T value = target.get(key, type);
+            recordLookup(key, value != null);
+            return value;
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            boolean[] loaded = {false};
+            long start = System.nanoTime();
+            T value = target.get(key, () -> {
+                loaded[0] = true;
+                return valueLoader.call();
+            });
+            stats.recordLookup(key, !loaded[0]);
+            if (loaded[0]) {
+                stats.recordLoad(System.nanoTime() - start);
+                recordPut(key, value);
+            }
+            return value;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            target.put(key, value);
+            stats.recordPut();
+            // 트랜잭션 인지 캐시는 커밋 후에 저장하므로 원장도 커밋 후 반영 (롤백된 저장이 예산을 차지하지 않도록)
+            afterTargetWrite(() -> chargeBudget(key, value));
+            completePendingLoad(key);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = target.putIfAbsent(key, value);
+            if (existing == null) {
+                recordPut(key, value);
+                completePendingLoad(key);
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            stats.recordEviction();
+            if (budget != null) {
+                afterTargetWrite(() -> budget.onEvict(key));
+            }
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = target.evictIfPresent(key);
+            // 실제로 제거된 경우에만 통계/예산 원장에 반영
+            if (evicted) {
+                stats.recordEviction();
+                if (budget != null) {
+                    budget.onEvict(key);
+                }
+            }
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            stats.recordClear();
+            if (budget != null) {
+                afterTargetWrite(budget::onClear);
+            }
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = target.invalidate();
+            stats.recordClear();
+            if (budget != null) {
+                budget.onClear();
+            }
+            return invalidated;
+        }
+
+        private void recordPut(Object key, Object value) {
+            stats.recordPut();
+            chargeBudget(key, value);
+        }
+
+        private void chargeBudget(Object key, Object value) {
+            if (budget != null && value != null) {
+                int evicted = budget.onPut(key, value);
+                for (int i = 0; i < evicted; i++) {
+                    stats.recordEviction();
+                }
+            }
+        }
+
+        /**
+         * put/evict/clear 후속 처리
+         * 트랜잭션 인지 캐시는 트랜잭션 안에서 이 세 동작을 커밋 후로 미루므로 같은 시점에 실행합니다.
+         * (putIfAbsent/evictIfPresent/invalidate는 즉시 반영되므로 바로 처리)
+         */
+        private void afterTargetWrite(Runnable action) {
+            if (target instanceof TransactionAwareCacheDecorator
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+            } else {
+                action.run();
+            }
+        }
+
+        private void recordLookup(Object key, boolean hit) {
+            stats.recordLookup(key, hit);
+            if (hit) {
+                PENDING_LOAD.remove();
+            } else {
+                PENDING_LOAD.set(new PendingLoad(getName(), key, System.nanoTime()));
+            }
+        }
+
+        private void completePendingLoad(Object key) {
+            PendingLoad pending = PENDING_LOAD.get();
+            if (pending != null && pending.cacheName.equals(getName()) && pending.key.equals(key)) {
+                stats.recordLoad(System.nanoTime() - pending.startNanos);
+                PENDING_LOAD.remove();
+            }
+        }
+
+        private static final class PendingLoad {
+            private final String cacheName;
+            private final Object key;
+            private final long startNanos;
+
+            private PendingLoad(String cacheName, Object key, long startNanos) {
+                this.cacheName = cacheName;
+                this.key = key;
+                this.startNanos = startNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.coincommunity.backend.config;
+
+import com.coincommunity.backend.websocket.LocalWebSocketBackplane;
+import com.coincommunity.backend.websocket.RedisWebSocketBackplane;
+import com.coincommunity.backend.websocket.WebSocketBackplane;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/**
+ * WebSocket 클러스터 백플레인 설정
+ *
+ * websocket.backplane.type
+ * - redis (기본값): Redis Pub/Sub으로 모든 노드에 전달
+ * - local: 현재 노드에만 전달 (단일 인스턴스, 로컬 개발)
+ */
+@Slf4j
+@Configuration
+public class WebSocketBackplaneConfig {
+
+    @Value("${websocket.backplane.type:redis}")
+    private String backplaneType;
+
+    @Value("${websocket.backplane.channel-prefix:coin-community:ws:}")
+    private String channelPrefix;
+
+    @Value("${websocket.backplane.node-id:}")
+    private String nodeId;
+
+    @Bean
+    public WebSocketBackplane webSocketBackplane(@Qualifier("webSocketRedisTemplate") RedisTemplate<String, String> webSocketRedisTemplate,
+                                                 ObjectMapper objectMapper) {
+        String resolvedNodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString().substring(0, 8);
+
+        if ("local".equalsIgnoreCase(backplaneType)) {
+            log.info("로컬 WebSocket 백플레인 사용: node={}", resolvedNodeId);
+            return new LocalWebSocketBackplane(resolvedNodeId);
+        }
+        return new RedisWebSocketBackplane(webSocketRedisTemplate, objectMapper, channelPrefix, resolvedNodeId);
+    }
+}
@@ -1,11 +1,15 @@
 package com.coincommunity.backend.config;
 
+import com.coincommunity.backend.security.JwtHandshakeInterceptor;
+import com.coincommunity.backend.security.JwtTokenProvider;
 import com.coincommunity.backend.websocket.CoinPriceWebSocketHandler;
+import com.coincommunity.backend.websocket.ConnectionLimitInterceptor;
 import com.coincommunity.backend.websocket.NotificationWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.*;
 
 /**
@@ -21,6 +25,8 @@ public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBro
 
     private final CoinPriceWebSocketHandler coinPriceWebSocketHandler;
     private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ConnectionLimitInterceptor connectionLimitInterceptor;
     
     @Value("${websocket.endpoints.coin-prices:/ws/coin-prices}")
     private String coinPricesEndpoint;
@@ -28,6 +34,29 @@ public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBro
     @Value("${websocket.endpoints.notifications:/ws/notifications}")
     private String notificationsEndpoint;
     
+    // 가격 스트림은 비로그인 사용자도 사용하므로 기본적으로 토큰을 요구하지 않음 (유효하지 않은 토큰은 거부)
+    @Value("${websocket.auth.coin-prices-required:false}")
+    private boolean coinPricesAuthRequired;
+    
+    // STOMP 브로커 종류: simple(노드 내장 브로커) | relay(외부 STOMP 브로커 중계)
+    @Value("${websocket.stomp.broker:simple}")
+    private String stompBroker;
+    
+    @Value("${websocket.stomp.relay.host:localhost}")
+    private String relayHost;
+    
+    @Value("${websocket.stomp.relay.port:61613}")
+    private int relayPort;
+    
+    @Value("${websocket.stomp.relay.login:guest}")
+    private String relayLogin;
+    
+    @Value("${websocket.stomp.relay.passcode:guest}")
+    private String relayPasscode;
+    
+    @Value("${websocket.stomp.relay.virtual-host:}")
+    private String relayVirtualHost;
+    
     @Value("#{'${cors.allowed-origins}'.split(',')}")
     private String[] allowedOrigins;
     
@@ -38,21 +67,44 @@ public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBro
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         // 코인 가격 업데이트용 WebSocket
         registry.addHandler(coinPriceWebSocketHandler, coinPricesEndpoint)
+                .addInterceptors(connectionLimitInterceptor,
+                        new JwtHandshakeInterceptor(jwtTokenProvider, coinPricesAuthRequired))
                 .setAllowedOrigins(allowedOrigins);
                 
-        // 알림용 WebSocket
+        // 알림용 WebSocket (핸드셰이크 시 JWT 인증 필수)
         registry.addHandler(notificationWebSocketHandler, notificationsEndpoint)
+                .addInterceptors(connectionLimitInterceptor,
+                        new JwtHandshakeInterceptor(jwtTokenProvider, true))
                 .setAllowedOrigins(allowedOrigins);
     }
     
     /**
      * STOMP 메시지 브로커 설정
      * SimpMessagingTemplate 빈을 제공하기 위한 설정
+     *
+     * simple: 노드 내장 브로커 (구독 매칭이 노드 로컬이므로 다중 노드 전달은 백플레인이 담당)
+     * relay: 외부 STOMP 브로커(ActiveMQ, RabbitMQ 등)로 중계하여 구독 관리와 노드 간 전달을 브로커에 위임
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트에서 구독할 수 있는 토픽 prefix 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        if (isRelayBroker(stompBroker)) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 다른 노드에 연결된 사용자에게도 /user 목적지가 전달되도록 사용자 레지스트리 공유
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         
         // 클라이언트에서 서버로 메시지를 전송할 때 사용할 prefix 설정
         config.setApplicationDestinationPrefixes("/app");
@@ -61,6 +113,10 @@ public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBro
         config.setUserDestinationPrefix("/user");
     }
     
+    public static boolean isRelayBroker(String stompBroker) {
+        return "relay".equalsIgnoreCase(stompBroker);
+    }
+    
     /**
      * STOMP 엔드포인트 등록
      */
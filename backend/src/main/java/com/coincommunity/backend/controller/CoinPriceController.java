@@ -3,13 +3,17 @@ package com.coincommunity.backend.controller;
 import com.coincommunity.backend.dto.ApiResponse;
 import com.coincommunity.backend.dto.CoinPriceDto;
 import com.coincommunity.backend.service.CoinPriceService;
+import com.coincommunity.backend.service.PriceSseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -24,6 +28,24 @@ import java.util.List;
 public class CoinPriceController {
 
     private final CoinPriceService coinPriceService;
+    private final PriceSseService priceSseService;
+
+    /**
+     * 실시간 코인 가격 스트림 (Server-Sent Events)
+     */
+    @Operation(
+        summary = "실시간 코인 가격 스트림 (SSE)",
+        description = "첫 이벤트로 구독 범위의 스냅샷(event: snapshot)을, 이후 변경된 필드만 담은 델타(event: delta)를 전송합니다. "
+                + "재연결 시 Last-Event-ID 헤더를 보내면 이후 변경분부터 이어서 받습니다.",
+        tags = {"코인 가격"}
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamCoinPrices(
+            @Parameter(description = "수신할 코인 심볼 목록 (생략 시 전체)") @RequestParam(required = false) List<String> symbols,
+            @Parameter(description = "수신할 거래소 목록 (생략 시 전체)") @RequestParam(required = false) List<String> exchanges,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return priceSseService.stream(symbols, exchanges, lastEventId);
+    }
 
     /**
      * 모든 코인 가격 정보 조회
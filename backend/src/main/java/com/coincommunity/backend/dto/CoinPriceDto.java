@@ -1,6 +1,7 @@
 package com.coincommunity.backend.dto;
 
 import com.coincommunity.backend.entity.CoinPrice;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,15 @@ import java.util.stream.Collectors;
  */
 public class CoinPriceDto {
 
+    /**
+     * 가격 데이터 출처 구분
+     */
+    public enum PriceSource {
+        DIRECT,    // 요청한 거래소의 데이터
+        FALLBACK,  // COINGECKO 데이터 기반 추정치
+        MISSING    // 조회 결과 없음 (툼스톤)
+    }
+
     /**
      * 코인 가격 응답 DTO
      */
@@ -38,6 +48,7 @@ public class CoinPriceDto {
         private BigDecimal lowPrice24h;
         private BigDecimal marketCap;
         private String note; // 노트 필드 추가
+        private PriceSource source;
 
         /**
          * CoinPrice 엔티티로부터 CoinPriceResponse DTO를 생성합니다.
@@ -55,6 +66,7 @@ public class CoinPriceDto {
                     .highPrice24h(coinPrice.getHighPrice24h())
                     .lowPrice24h(coinPrice.getLowPrice24h())
                     .marketCap(coinPrice.getMarketCap())
+                    .source(PriceSource.DIRECT)
                     .build();
         }
         
@@ -68,6 +80,29 @@ public class CoinPriceDto {
         }
     }
     
+    /**
+     * 존재하지 않는 코인/거래소 조합에 대한 부정 캐시 툼스톤
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceTombstone {
+        private String coinId;
+        private String exchange;
+        private PriceSource source;
+        private LocalDateTime checkedAt;
+
+        public static PriceTombstone missing(String coinId, String exchange) {
+            return PriceTombstone.builder()
+                    .coinId(coinId)
+                    .exchange(exchange)
+                    .source(PriceSource.MISSING)
+                    .checkedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+
     /**
      * 실시간 코인 가격 업데이트를 위한 WebSocket 응답 DTO
      */
@@ -99,4 +134,94 @@ public class CoinPriceDto {
                     .build();
         }
     }
+
+    /**
+     * 가격 스트림 항목 (스냅샷은 전체 필드, 델타는 변경된 필드만 포함)
+     * 이름은 해당 코인/거래소가 스트림에 처음 등장할 때만 포함합니다.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceDelta {
+        private String coinId;
+        private String exchange;
+        private String koreanName;
+        private String englishName;
+        private BigDecimal currentPrice;
+        private BigDecimal priceChangePercent;
+
+        /**
+         * 스냅샷 항목 생성
+         */
+        public static PriceDelta full(RealtimeUpdate update) {
+            return PriceDelta.builder()
+                    .coinId(update.getCoinId())
+                    .exchange(update.getExchange())
+                    .koreanName(update.getKoreanName())
+                    .englishName(update.getEnglishName())
+                    .currentPrice(update.getCurrentPrice())
+                    .priceChangePercent(update.getPriceChangePercent())
+                    .build();
+        }
+
+        /**
+         * 이전 값 대비 변경된 필드만 담은 델타 생성 (변경이 없으면 null)
+         */
+        public static PriceDelta between(RealtimeUpdate previous, RealtimeUpdate current) {
+            if (previous == null) {
+                return full(current);
+            }
+            boolean priceChanged = !sameValue(previous.getCurrentPrice(), current.getCurrentPrice());
+            boolean percentChanged = !sameValue(previous.getPriceChangePercent(), current.getPriceChangePercent());
+            if (!priceChanged && !percentChanged) {
+                return null;
+            }
+            return PriceDelta.builder()
+                    .coinId(current.getCoinId())
+                    .exchange(current.getExchange())
+                    .currentPrice(priceChanged ? current.getCurrentPrice() : null)
+                    .priceChangePercent(percentChanged ? current.getPriceChangePercent() : null)
+                    .build();
+        }
+
+        /**
+         * 이후 델타를 덮어써 하나로 합침 (재연결 시 누락 구간 복구용)
+         */
+        public PriceDelta mergedWith(PriceDelta newer) {
+            return PriceDelta.builder()
+                    .coinId(coinId)
+                    .exchange(exchange)
+                    .koreanName(newer.koreanName != null ? newer.koreanName : koreanName)
+                    .englishName(newer.englishName != null ? newer.englishName : englishName)
+                    .currentPrice(newer.currentPrice != null ? newer.currentPrice : currentPrice)
+                    .priceChangePercent(newer.priceChangePercent != null ? newer.priceChangePercent : priceChangePercent)
+                    .build();
+        }
+
+        private static boolean sameValue(BigDecimal a, BigDecimal b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a.compareTo(b) == 0;
+        }
+    }
+
+    /**
+     * 가격 스트림 WebSocket 프레임
+     * prices는 미리 직렬화된 JSON 배열로, 같은 항목을 받는 세션끼리 공유합니다.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceFrame {
+        private String type;
+        private String stream;
+        private Long seq;
+        private Long prev;
+        private LocalDateTime timestamp;
+        @JsonRawValue
+        private String prices;
+    }
 }
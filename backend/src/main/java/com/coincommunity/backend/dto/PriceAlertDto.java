@@ -11,6 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
@@ -36,11 +37,14 @@ public class PriceAlertDto {
         @NotNull(message = "알림 타입은 필수입니다.")
         private AlertType alertType;
 
-        @Schema(description = "목표 가격", example = "50000000")
+        @Schema(description = "목표 가격 (변동률 알림은 목표 변동률 %)", example = "50000000")
         @NotNull(message = "목표 가격은 필수입니다.")
         @Positive(message = "목표 가격은 양수여야 합니다.")
         private BigDecimal targetPrice;
 
+        @Schema(description = "변동률 기준 구간 (변동률 알림에만 사용, 기본 24시간)", example = "HOUR_1")
+        private ChangeWindow changeWindow;
+
         @Schema(description = "알림 메시지", example = "비트코인이 5천만원을 돌파했습니다!")
         private String message;
 
@@ -70,9 +74,12 @@ public class PriceAlertDto {
         @Schema(description = "알림 타입", example = "ABOVE")
         private AlertType alertType;
 
-        @Schema(description = "목표 가격", example = "50000000")
+        @Schema(description = "목표 가격 (변동률 알림은 목표 변동률 %)", example = "50000000")
         private BigDecimal targetPrice;
 
+        @Schema(description = "변동률 기준 구간", example = "HOUR_1")
+        private ChangeWindow changeWindow;
+
         @Schema(description = "현재 가격", example = "48000000")
         private BigDecimal currentPrice;
 
@@ -112,6 +119,31 @@ public class PriceAlertDto {
         }
     }
 
+    /**
+     * 변동률 알림 기준 구간
+     */
+    public enum ChangeWindow {
+        MINUTES_5("5분", Duration.ofMinutes(5)),
+        HOUR_1("1시간", Duration.ofHours(1)),
+        HOURS_24("24시간", Duration.ofHours(24));
+
+        private final String displayName;
+        private final Duration duration;
+
+        ChangeWindow(String displayName, Duration duration) {
+            this.displayName = displayName;
+            this.duration = duration;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+    }
+
     /**
      * 가격 알림 상태
      */
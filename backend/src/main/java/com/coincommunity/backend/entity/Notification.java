@@ -10,9 +10,14 @@ import java.time.LocalDateTime;
 
 /**
  * 사용자 알림 엔티티
+ * 오래된 읽은 알림은 NotificationRetentionScheduler가 notification_archive로 옮깁니다.
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read"),
+        @Index(name = "idx_notifications_read_created", columnList = "is_read, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
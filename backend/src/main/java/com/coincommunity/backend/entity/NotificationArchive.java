@@ -0,0 +1,61 @@
+package com.coincommunity.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 알림 엔티티 (notification_archive)
+ *
+ * 보관 기간이 지난 읽은 알림을 원래 ID 그대로 옮겨 두는 콜드 테이블입니다.
+ * 조회 경로에서 쓰지 않으므로 사용자 FK 없이 ID만 보관하며, 보관 기간이 지나면 일괄 삭제합니다.
+ */
+@Entity
+@Table(name = "notification_archive", indexes = {
+        @Index(name = "idx_notification_archive_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notification_archive_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationArchive {
+
+    /**
+     * 원래 알림 ID (notifications.id)
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
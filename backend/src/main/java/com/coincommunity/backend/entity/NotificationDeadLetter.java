@@ -0,0 +1,65 @@
+package com.coincommunity.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전달 실패 알림 보관 (Dead Letter) 엔티티
+ *
+ * 최대 시도 횟수를 넘겨 전달하지 못한 Outbox 항목을 마지막 오류와 함께 옮겨 둡니다.
+ * 운영자가 원인을 확인한 뒤 다시 보내거나 정리할 수 있도록 Outbox 대기열과 분리해 보관합니다.
+ */
+@Entity
+@Table(name = "notification_dead_letter", indexes = {
+        @Index(name = "idx_dead_letter_failed_at", columnList = "failed_at"),
+        @Index(name = "idx_dead_letter_user_id", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+}
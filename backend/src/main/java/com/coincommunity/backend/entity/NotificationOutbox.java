@@ -0,0 +1,84 @@
+package com.coincommunity.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 전송 대기열 (Outbox) 엔티티
+ *
+ * 알림을 저장하는 트랜잭션에서 함께 기록하고, 디스패처가 커밋된 항목을 읽어 WebSocket/STOMP/푸시로 전달합니다.
+ * 전달에 성공한 항목은 삭제하며, 실패한 항목은 재시도 후 최대 시도 횟수를 넘기면 NotificationDeadLetter로 옮깁니다.
+ * 대량 기록과 선점은 NotificationOutboxRepository(JDBC)에서 처리하고, 엔티티는 테이블 정의에 사용합니다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_user_id", columnList = "user_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 전송할 알림 ID (notifications 테이블)
+     */
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 전송 중(SENDING) 선점 만료 시각 (노드가 중단되면 이후 다시 PENDING으로 되돌림)
+     */
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 전송 상태
+     */
+    public enum Status {
+        PENDING,
+        SENDING
+    }
+}
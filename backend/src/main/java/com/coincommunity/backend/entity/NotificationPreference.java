@@ -1,5 +1,6 @@
 package com.coincommunity.backend.entity;
 
+import com.coincommunity.backend.service.NotificationPreferenceListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import lombok.*;
  */
 @Entity
 @Table(name = "notification_preferences")
+@EntityListeners(NotificationPreferenceListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +28,10 @@ public class PriceAlert {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 사용자 프록시를 초기화하지 않고 사용자 ID를 읽기 위한 읽기 전용 매핑
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
     @Column(nullable = false)
     private String symbol;
 
@@ -48,6 +52,11 @@ public class PriceAlert {
     @Column(nullable = false)
     private PriceAlertDto.AlertStatus status;
 
+    // 변동률 알림의 기준 구간 (이상/이하 알림은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PriceAlertDto.ChangeWindow changeWindow;
+
     @Column(name = "is_repeat", columnDefinition = "bit(1)", nullable = false)
     private boolean repeat;
 
@@ -82,31 +91,54 @@ public class PriceAlert {
     }
 
     /**
-     * 알림 조건 충족 여부 확인
-     * 현재 가격과 목표 가격을 비교하여 알림 조건(이상/이하/변동률)이 충족되었는지 확인
+     * 변동률 알림인지 여부
+     */
+    public boolean isPercentChangeAlert() {
+        return alertType == PriceAlertDto.AlertType.PERCENT_CHANGE_UP
+                || alertType == PriceAlertDto.AlertType.PERCENT_CHANGE_DOWN;
+    }
+
+    /**
+     * 변동률 기준 구간 (지정되지 않은 기존 알림은 24시간)
+     */
+    public PriceAlertDto.ChangeWindow resolveChangeWindow() {
+        return changeWindow != null ? changeWindow : PriceAlertDto.ChangeWindow.HOURS_24;
+    }
+
+    /**
+     * 알림 조건 충족 여부 확인 (가격 알림)
      */
     public boolean checkAlertCondition() {
-        if (currentPrice == null || targetPrice == null) {
+        return checkAlertCondition(null);
+    }
+
+    /**
+     * 알림 조건 충족 여부 확인
+     * 이상/이하 알림은 현재 가격과 목표 가격을, 변동률 알림은 기준 구간의 변동률(%)과 목표 변동률을 비교
+     *
+     * @param changePercent 기준 구간 변동률 (구간 가격 이력이 없으면 null)
+     */
+    public boolean checkAlertCondition(BigDecimal changePercent) {
+        if (targetPrice == null) {
             return false;
         }
 
         switch (alertType) {
             case ABOVE:
                 // 현재 가격이 목표 가격 이상인 경우
-                return currentPrice.compareTo(targetPrice) >= 0;
+                return currentPrice != null && currentPrice.compareTo(targetPrice) >= 0;
 
             case BELOW:
                 // 현재 가격이 목표 가격 이하인 경우
-                return currentPrice.compareTo(targetPrice) <= 0;
+                return currentPrice != null && currentPrice.compareTo(targetPrice) <= 0;
 
             case PERCENT_CHANGE_UP:
-                // 가격 변동률이 목표 퍼센트 이상인 경우
-                // 이전 가격이 필요하므로 실제 구현에서는 추가 데이터가 필요함
-                // 여기서는 간단히 현재 가격이 목표 가격의 X% 이상인지만 확인
-                if (lastTriggeredAt == null) {
-                    return true; // 첫 트리거인 경우 일단 알림
-                }
-                return false; // 실제 구현에서는 가격 변동률 계산 필요
+                // 구간 상승률이 목표 변동률 이상인 경우
+                return changePercent != null && changePercent.compareTo(targetPrice) >= 0;
+
+            case PERCENT_CHANGE_DOWN:
+                // 구간 하락률이 목표 변동률 이상인 경우 (목표 변동률은 양수로 저장)
+                return changePercent != null && changePercent.negate().compareTo(targetPrice) >= 0;
 
             default:
                 return false;
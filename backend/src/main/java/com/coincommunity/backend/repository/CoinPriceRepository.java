@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,11 @@ public interface CoinPriceRepository extends JpaRepository<CoinPrice, CoinPriceI
      */
     Optional<CoinPrice> findByCoinIdAndExchange(String coinId, String exchange);
 
+    /**
+     * 특정 코인의 여러 거래소 가격 정보를 한 번에 조회합니다.
+     */
+    List<CoinPrice> findByCoinIdAndExchangeIn(String coinId, Collection<String> exchanges);
+
     /**
      * 시가총액 기준으로 상위 코인들을 조회합니다.
      */
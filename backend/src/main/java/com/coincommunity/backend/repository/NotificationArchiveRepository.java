@@ -0,0 +1,106 @@
+package com.coincommunity.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 보관/정리 데이터 액세스 (JDBC 배치)
+ *
+ * 엔티티를 불러오지 않고 INSERT ... SELECT / DELETE ... LIMIT로 묶음 단위로 옮기고 지웁니다.
+ * 여러 노드가 동시에 실행해도 같은 행을 두 번 옮기지 않도록 대상 행을 SKIP LOCKED로 잠급니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationArchiveRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 기준 시각 이전에 생성된 읽은 알림을 한 묶음 보관 테이블로 이동
+     *
+     * @return 이동한 알림 수 (0이면 더 옮길 알림 없음)
+     */
+    @Transactional
+    public int archiveReadBefore(LocalDateTime cutoff, int limit, LocalDateTime archivedAt) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE is_read = true AND created_at < ? " +
+                "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return moveToArchive(ids, archivedAt);
+    }
+
+    /**
+     * 기준 시각 이전에 생성된 읽지 않은 알림을 한 묶음 보관 테이블로 이동
+     * (활동하지 않는 사용자에게 쌓인 가격 알림 등, 읽지 않은 상태로 보관)
+     *
+     * @return 이동한 알림의 사용자 ID (알림마다 하나, 비어 있으면 더 옮길 알림 없음)
+     */
+    @Transactional
+    public List<Long> archiveUnreadBefore(LocalDateTime cutoff, int limit, LocalDateTime archivedAt) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, user_id FROM notifications WHERE is_read = false AND created_at < ? " +
+                "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED",
+                Timestamp.valueOf(cutoff), limit);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Long> userIds = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            ids.add(((Number) row.get("id")).longValue());
+            userIds.add(((Number) row.get("user_id")).longValue());
+        }
+        moveToArchive(ids, archivedAt);
+        return userIds;
+    }
+
+    private int moveToArchive(List<Long> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        namedParameterJdbcTemplate.update(
+                "INSERT INTO notification_archive (id, user_id, title, message, type, resource_id, is_read, " +
+                "read_at, created_at, archived_at) " +
+                "SELECT id, user_id, title, message, type, resource_id, is_read, read_at, created_at, :archivedAt " +
+                "FROM notifications WHERE id IN (:ids)",
+                params);
+        return namedParameterJdbcTemplate.update("DELETE FROM notifications WHERE id IN (:ids)", params);
+    }
+
+    /**
+     * 보관 기간이 지난 보관 알림을 한 묶음 삭제
+     *
+     * @return 삭제한 알림 수
+     */
+    public int purgeArchivedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_archive WHERE created_at < ? ORDER BY created_at LIMIT ?",
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 보관 기간이 지난 Dead Letter를 한 묶음 삭제
+     *
+     * @return 삭제한 항목 수
+     */
+    public int purgeDeadLettersBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_dead_letter WHERE failed_at < ? ORDER BY failed_at LIMIT ?",
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
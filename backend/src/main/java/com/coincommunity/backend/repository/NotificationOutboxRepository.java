@@ -0,0 +1,321 @@
+package com.coincommunity.backend.repository;
+
+import com.coincommunity.backend.dto.NotificationDto;
+import com.coincommunity.backend.entity.NotificationOutbox;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 Outbox 데이터 액세스 (JDBC 배치)
+ *
+ * 대량 알림은 JPA 엔티티를 한 건씩 저장하지 않고 JDBC 배치로 기록합니다.
+ * (IDENTITY 키를 쓰는 엔티티는 Hibernate가 INSERT를 배치로 묶지 않음)
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션과 함께 사용하면 배치가 다중 행 INSERT로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notifications (user_id, title, message, type, resource_id, is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, ?, ?)";
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO notification_outbox (notification_id, user_id, type, title, message, resource_id, " +
+            "status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    // 같은 사용자의 앞선 항목이 전송 중이거나 재시도 대기 중이면 뒤의 항목은 선점하지 않음 (사용자별 순서 보장)
+    private static final String SELECT_CLAIMABLE =
+            "SELECT o.id, o.notification_id, o.user_id, o.type, o.title, o.message, o.resource_id, o.attempts, o.created_at " +
+            "FROM notification_outbox o " +
+            "WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now " +
+            "AND NOT EXISTS (SELECT 1 FROM notification_outbox p WHERE p.user_id = o.user_id AND p.id < o.id " +
+            "AND (p.status = 'SENDING' OR (p.status = 'PENDING' AND p.next_attempt_at > :now))) " +
+            "ORDER BY o.id LIMIT :limit FOR UPDATE";
+
+    private static final RowMapper<OutboxEntry> ENTRY_MAPPER = (rs, rowNum) -> OutboxEntry.builder()
+            .id(rs.getLong("id"))
+            .notificationId(getNullableLong(rs, "notification_id"))
+            .userId(rs.getLong("user_id"))
+            .type(rs.getString("type"))
+            .title(rs.getString("title"))
+            .message(rs.getString("message"))
+            .resourceId(getNullableLong(rs, "resource_id"))
+            .attempts(rs.getInt("attempts"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 알림 배치 기록
+     *
+     * @return 기록된 알림 ID (요청 순서와 같음)
+     */
+    public long[] insertNotifications(List<NotificationDto.CreateRequest> requests, LocalDateTime now) {
+        if (requests.isEmpty()) {
+            return new long[0];
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_NOTIFICATION, Statement.RETURN_GENERATED_KEYS)) {
+                for (NotificationDto.CreateRequest request : requests) {
+                    ps.setLong(1, request.getUserId());
+                    ps.setString(2, request.getTitle());
+                    ps.setString(3, request.getMessage());
+                    ps.setString(4, request.getType());
+                    setNullableLong(ps, 5, request.getResourceId());
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                long[] ids = new long[requests.size()];
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < ids.length) {
+                        ids[index++] = keys.getLong(1);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 저장된 알림들의 전송 대기 항목 배치 기록
+     *
+     * @param notificationIds 알림 ID (requests와 같은 순서)
+     */
+    public void enqueueAll(List<Long> notificationIds, List<NotificationDto.CreateRequest> requests, LocalDateTime now) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                setOutboxValues(ps, notificationIds.get(index), requests.get(index), timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return requests.size();
+            }
+        });
+    }
+
+    /**
+     * 이미 저장된 알림의 전송 대기 항목 기록
+     */
+    public void enqueue(Long notificationId, NotificationDto.CreateRequest request, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_OUTBOX, ps -> setOutboxValues(ps, notificationId, request, timestamp));
+    }
+
+    /**
+     * 전송할 항목 선점 (SENDING 상태로 바꾸고 선점 만료 시각 기록)
+     */
+    @Transactional
+    public List<OutboxEntry> claim(int limit, LocalDateTime now, LocalDateTime claimUntil) {
+        List<OutboxEntry> entries = namedParameterJdbcTemplate.query(SELECT_CLAIMABLE,
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("limit", limit),
+                ENTRY_MAPPER);
+        if (!entries.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "UPDATE notification_outbox SET status = 'SENDING', claimed_until = :claimUntil WHERE id IN (:ids)",
+                    new MapSqlParameterSource()
+                            .addValue("claimUntil", Timestamp.valueOf(claimUntil))
+                            .addValue("ids", entries.stream().map(OutboxEntry::getId).toList()));
+        }
+        return entries;
+    }
+
+    /**
+     * 선점 만료된 전송 중 항목을 대기 상태로 되돌림 (전송 도중 중단된 노드의 항목)
+     */
+    public int releaseExpiredClaims(LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE notification_outbox SET status = 'PENDING', claimed_until = NULL " +
+                "WHERE status = 'SENDING' AND claimed_until < ?", Timestamp.valueOf(now));
+    }
+
+    /**
+     * 전송 완료 항목 삭제
+     */
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update("DELETE FROM notification_outbox WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * 재시도 일정 기록 (다시 대기 상태로 전환)
+     */
+    public void reschedule(List<Retry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE notification_outbox SET status = ?, attempts = ?, next_attempt_at = ?, " +
+                "claimed_until = NULL, last_error = ? WHERE id = ?",
+                retries, retries.size(), (ps, retry) -> {
+                    ps.setString(1, retry.getStatus().name());
+                    ps.setInt(2, retry.getAttempts());
+                    ps.setTimestamp(3, Timestamp.valueOf(retry.getNextAttemptAt()));
+                    ps.setString(4, retry.getLastError());
+                    ps.setLong(5, retry.getId());
+                });
+    }
+
+    /**
+     * 재시도 중인 항목의 선점 연장 (재시도 대기 동안 다른 노드가 가져가지 않도록 함)
+     * 시도 횟수가 늘어나는 경우에만 반영하여 늦게 도착한 갱신이 최신 상태를 덮어쓰지 않도록 함
+     */
+    public void extendClaims(List<Retry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE notification_outbox SET attempts = ?, claimed_until = ?, last_error = ? " +
+                "WHERE id = ? AND status = 'SENDING' AND attempts < ?",
+                retries, retries.size(), (ps, retry) -> {
+                    ps.setInt(1, retry.getAttempts());
+                    ps.setTimestamp(2, Timestamp.valueOf(retry.getNextAttemptAt()));
+                    ps.setString(3, retry.getLastError());
+                    ps.setLong(4, retry.getId());
+                    ps.setInt(5, retry.getAttempts());
+                });
+    }
+
+    /**
+     * 최대 시도 횟수를 넘긴 항목을 Dead Letter로 이동
+     */
+    @Transactional
+    public void moveToDeadLetter(List<Retry> failures, LocalDateTime failedAt) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(failedAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notification_dead_letter (outbox_id, notification_id, user_id, type, title, message, " +
+                "resource_id, attempts, last_error, created_at, failed_at) " +
+                "SELECT id, notification_id, user_id, type, title, message, resource_id, ?, ?, created_at, ? " +
+                "FROM notification_outbox WHERE id = ?",
+                failures, failures.size(), (ps, failure) -> {
+                    ps.setInt(1, failure.getAttempts());
+                    ps.setString(2, failure.getLastError());
+                    ps.setTimestamp(3, timestamp);
+                    ps.setLong(4, failure.getId());
+                });
+        deleteAll(failures.stream().map(Retry::getId).toList());
+    }
+
+    /**
+     * 사용자별 FCM 토큰 일괄 조회 (토큰이 없는 사용자는 제외)
+     */
+    public Map<Long, String> findFcmTokens(Collection<Long> userIds) {
+        Map<Long, String> tokens = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return tokens;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT id, fcm_token FROM users WHERE id IN (:ids) AND fcm_token IS NOT NULL AND fcm_token <> ''",
+                new MapSqlParameterSource("ids", userIds),
+                rs -> {
+                    tokens.put(rs.getLong("id"), rs.getString("fcm_token"));
+                });
+        return tokens;
+    }
+
+    /**
+     * 대기 중인 항목 수
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE status IN ('PENDING', 'SENDING')", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private static void setOutboxValues(PreparedStatement ps, Long notificationId,
+                                        NotificationDto.CreateRequest request, Timestamp timestamp) throws SQLException {
+        setNullableLong(ps, 1, notificationId);
+        ps.setLong(2, request.getUserId());
+        ps.setString(3, request.getType());
+        ps.setString(4, request.getTitle());
+        ps.setString(5, request.getMessage());
+        setNullableLong(ps, 6, request.getResourceId());
+        ps.setTimestamp(7, timestamp);
+        ps.setTimestamp(8, timestamp);
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static Long getNullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * 전송 대기 항목
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    public static class OutboxEntry {
+        private final Long id;
+        private final Long notificationId;
+        private final Long userId;
+        private final String type;
+        private final String title;
+        private final String message;
+        private final Long resourceId;
+        private final int attempts;
+        private final LocalDateTime createdAt;
+    }
+
+    /**
+     * 전송 실패 항목의 다음 상태 (nextAttemptAt은 선점 연장 시 선점 만료 시각으로 사용)
+     */
+    @Getter
+    @Builder
+    public static class Retry {
+        private final Long id;
+        private final NotificationOutbox.Status status;
+        private final int attempts;
+        private final LocalDateTime nextAttemptAt;
+        private final String lastError;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +58,13 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
            "WHERE np.user.id = :userId AND np.notificationType = :type AND np.isEnabled = true")
     boolean isNotificationEnabled(@Param("userId") Long userId, @Param("type") String notificationType);
 
+    /**
+     * 여러 사용자의 비활성화된 알림 타입 일괄 조회 ([사용자 ID, 알림 타입])
+     */
+    @Query("SELECT np.user.id, np.notificationType FROM NotificationPreference np " +
+           "WHERE np.user.id IN :userIds AND np.isEnabled = false")
+    List<Object[]> findDisabledTypesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     /**
      * 사용자의 모든 알림 설정 삭제
      */
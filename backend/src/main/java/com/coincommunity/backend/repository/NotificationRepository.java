@@ -4,6 +4,7 @@ import com.coincommunity.backend.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
@@ -43,14 +44,27 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     long countByUserIdAndIsReadFalse(Long userId);
     
+    /**
+     * 사용자의 읽지 않은 알림 일괄 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now, n.updatedAt = :now " +
+           "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
     /**
      * 사용자별 특정 기간 내 알림 갯수 조회
      */
     long countByUserIdAndCreatedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
     
     /**
-     * 오늘 발송된 알림 수 조회
+     * 오늘 발송된 알림 수 조회 ([start, end) 범위 조건으로 (user_id, created_at) 인덱스 사용)
      */
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND DATE(n.createdAt) = CURRENT_DATE")
-    long countTodayNotificationsByUserId(@Param("userId") Long userId);
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId " +
+           "AND n.createdAt >= :start AND n.createdAt < :end")
+    long countTodayNotificationsByUserId(@Param("userId") Long userId,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
 }
@@ -5,10 +5,14 @@ import com.coincommunity.backend.entity.PriceAlert;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -50,6 +54,26 @@ public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
     @Query("SELECT pa FROM PriceAlert pa WHERE pa.user.id = :userId AND pa.symbol = :symbol AND pa.status = 'PENDING'")
     List<PriceAlert> findPendingAlertsByUserIdAndSymbol(@Param("userId") Long userId, @Param("symbol") String symbol);
 
+    /**
+     * 대기 중인 알림 ID 조회 및 잠금 (트랜잭션 안에서 updateTriggered 직전에 호출)
+     * 잠근 행은 커밋 전까지 다른 트랜잭션이 바꿀 수 없으므로, 이 ID가 곧 갱신될 알림입니다.
+     */
+    @Query(value = "SELECT id FROM price_alerts WHERE id IN (:ids) AND status = 'PENDING' FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockPendingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 발동된 알림 상태 일괄 갱신 (대기 중인 알림만 갱신하여 그 사이 취소된 알림은 유지)
+     */
+    @Modifying
+    @Query("UPDATE PriceAlert pa SET pa.status = :status, pa.currentPrice = :currentPrice, " +
+           "pa.lastTriggeredAt = :triggeredAt, pa.updatedAt = :triggeredAt " +
+           "WHERE pa.id IN :ids AND pa.status = 'PENDING'")
+    int updateTriggered(@Param("ids") Collection<Long> ids,
+                        @Param("status") PriceAlertDto.AlertStatus status,
+                        @Param("currentPrice") BigDecimal currentPrice,
+                        @Param("triggeredAt") LocalDateTime triggeredAt);
+
     /**
      * 특정 사용자의 가격 알림 개수 조회
      */
@@ -1,10 +1,13 @@
 package com.coincommunity.backend.scheduler;
 
+import com.coincommunity.backend.dto.CoinPriceDto;
 import com.coincommunity.backend.dto.ExchangePriceDto;
 import com.coincommunity.backend.entity.CoinPrice;
 import com.coincommunity.backend.external.exchange.ExchangeApiStrategyContext;
 import com.coincommunity.backend.service.CoinPriceService;
 import com.coincommunity.backend.service.MajorCoinService;
+import com.coincommunity.backend.service.PriceAlertService;
+import com.coincommunity.backend.service.PriceBook;
 import com.coincommunity.backend.websocket.CoinPriceWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +37,8 @@ public class CoinPriceScheduler {
     private final CoinPriceService coinPriceService;
     private final CoinPriceWebSocketHandler coinPriceWebSocketHandler;
     private final MajorCoinService majorCoinService;
+    private final PriceBook priceBook;
+    private final PriceAlertService priceAlertService;
 
     @Value("${scheduler.coin-price.enable-domestic:true}")
     private boolean enableDomestic;
@@ -66,9 +71,15 @@ public class CoinPriceScheduler {
 
                 // 데이터 저장 및 웹소켓 알림
                 List<CoinPrice> savedCoinPrices = coinPriceService.saveAllCoinPrices(allCoinPrices);
+
+                // 인메모리 가격표 갱신 (이전 값과 달라진 가격만 추림)
+                List<CoinPriceDto.RealtimeUpdate> changedPrices = priceBook.putAllChanged(savedCoinPrices);
+
+                // 변경된 가격으로 목표가를 지나간 가격 알림만 즉시 처리
+                priceAlertService.onPriceTicks(changedPrices);
                 
-                // WebSocket을 통해 클라이언트에게 실시간 업데이트 전송 (배치 처리)
-                sendBatchWebSocketUpdates(savedCoinPrices);
+                // WebSocket을 통해 클라이언트에게 실시간 업데이트 전송 (프레임 단위 배치 처리)
+                sendBatchWebSocketUpdates(changedPrices);
                 
                 log.info("코인 가격 정보 업데이트 완료: {}개 코인", savedCoinPrices.size());
             } else {
@@ -170,19 +181,18 @@ public class CoinPriceScheduler {
     
     /**
      * 배치 WebSocket 업데이트 전송
+     * 변경된 가격만 다음 가격 프레임에 추가하고, 실제 전송은 핸들러가 세션별 프레임으로 묶어 처리합니다.
      */
-    private void sendBatchWebSocketUpdates(List<CoinPrice> savedCoinPrices) {
+    private void sendBatchWebSocketUpdates(List<CoinPriceDto.RealtimeUpdate> changedPrices) {
         try {
             // 주요 코인만 실시간 업데이트 (성능 최적화)
-            List<CoinPrice> majorCoinPrices = savedCoinPrices.stream()
-                .filter(cp -> majorCoinService.isMajorCoin(cp.getCoinId()))
+            List<CoinPriceDto.RealtimeUpdate> majorCoinPrices = changedPrices.stream()
+                .filter(update -> majorCoinService.isMajorCoin(update.getCoinId()))
                 .collect(Collectors.toList());
             
-            for (CoinPrice coinPrice : majorCoinPrices) {
-                coinPriceWebSocketHandler.sendCoinPriceUpdate(coinPrice);
-            }
+            coinPriceWebSocketHandler.publishPriceUpdates(majorCoinPrices);
             
-            log.debug("주요 코인 {}개에 대한 WebSocket 업데이트 전송 완료", majorCoinPrices.size());
+            log.debug("주요 코인 {}개 변경분을 WebSocket 프레임에 추가", majorCoinPrices.size());
         } catch (Exception e) {
             log.error("WebSocket 업데이트 전송 중 오류 발생", e);
         }
@@ -207,7 +217,7 @@ public class CoinPriceScheduler {
                     
                     if (!topCoins.isEmpty()) {
                         List<CoinPrice> coinPrices = convertToCoinPrices(topCoins);
-                        coinPriceService.saveAllCoinPrices(coinPrices);
+                        priceBook.putAll(coinPriceService.saveAllCoinPrices(coinPrices));
                         log.debug("시가총액 상위 코인 정보 업데이트 완료: {}개 코인", topCoins.size());
                     }
                 } catch (Exception e) {
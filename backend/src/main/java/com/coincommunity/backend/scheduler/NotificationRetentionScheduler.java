@@ -0,0 +1,121 @@
+package com.coincommunity.backend.scheduler;
+
+import com.coincommunity.backend.repository.NotificationArchiveRepository;
+import com.coincommunity.backend.service.UnreadNotificationCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 알림 보관/정리 스케줄러
+ *
+ * 매일 새벽 한 번 실행하여
+ * - 보관 기간(archive-after-days)이 지난 읽은 알림을 notification_archive로 옮기고
+ * - 읽지 않은 채 unread-archive-after-days가 지난 알림도 옮긴 뒤 해당 사용자의 읽지 않은 알림 수 카운터를 초기화하고
+ * - 보관 테이블에서 삭제 기간(purge-after-days)이 지난 알림과 오래된 Dead Letter를 삭제합니다.
+ * 묶음 단위로 짧은 트랜잭션을 반복하며, 묶음 사이에 잠시 쉬어 운영 트래픽에 주는 영향을 줄입니다.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionScheduler {
+
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final Counter archivedCounter;
+    private final Counter purgedCounter;
+
+    @Value("${notification.retention.archive-after-days:30}")
+    private int archiveAfterDays;
+
+    @Value("${notification.retention.unread-archive-after-days:90}")
+    private int unreadArchiveAfterDays;
+
+    @Value("${notification.retention.purge-after-days:365}")
+    private int purgeAfterDays;
+
+    @Value("${notification.retention.dead-letter-days:30}")
+    private int deadLetterDays;
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notification.retention.max-batches:500}")
+    private int maxBatches;
+
+    @Value("${notification.retention.pause-ms:50}")
+    private long pauseMs;
+
+    public NotificationRetentionScheduler(NotificationArchiveRepository notificationArchiveRepository,
+                                          UnreadNotificationCounter unreadNotificationCounter,
+                                          MeterRegistry meterRegistry) {
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("보관 테이블로 옮긴 알림 수").register(meterRegistry);
+        this.purgedCounter = Counter.builder("notification.retention.purged")
+                .description("보관 기간이 지나 삭제한 알림 수").register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 4시(한국 시간) 알림 보관/정리
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void runRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int archived = repeatInBatches(() -> notificationArchiveRepository.archiveReadBefore(
+                    now.minusDays(archiveAfterDays), batchSize, now));
+            archivedCounter.increment(archived);
+
+            int unreadArchived = repeatInBatches(() -> {
+                List<Long> userIds = notificationArchiveRepository.archiveUnreadBefore(
+                        now.minusDays(unreadArchiveAfterDays), batchSize, now);
+                // 묶음 트랜잭션이 커밋된 뒤 카운터를 지워 다음 조회에서 DB 값으로 다시 채움
+                unreadNotificationCounter.resetAll(new HashSet<>(userIds));
+                return userIds.size();
+            });
+            archivedCounter.increment(unreadArchived);
+
+            int purged = repeatInBatches(() -> notificationArchiveRepository.purgeArchivedBefore(
+                    now.minusDays(purgeAfterDays), batchSize));
+            purgedCounter.increment(purged);
+
+            int deadLetters = repeatInBatches(() -> notificationArchiveRepository.purgeDeadLettersBefore(
+                    now.minusDays(deadLetterDays), batchSize));
+
+            log.info("알림 보관/정리 완료 - 보관: {}건 (읽지 않은 알림 {}건), 보관 알림 삭제: {}건, Dead Letter 삭제: {}건",
+                    archived + unreadArchived, unreadArchived, purged, deadLetters);
+        } catch (Exception e) {
+            log.error("알림 보관/정리 실패", e);
+        }
+    }
+
+    /**
+     * 묶음이 가득 차는 동안 반복 (한 번 실행에 최대 maxBatches 묶음)
+     */
+    private int repeatInBatches(IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int processed = batch.getAsInt();
+            total += processed;
+            if (processed < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -1,6 +1,7 @@
 package com.coincommunity.backend.security;
 
 import com.coincommunity.backend.entity.User;
+import com.coincommunity.backend.entity.UserStatus;
 import com.coincommunity.backend.exception.ResourceNotFoundException;
 import com.coincommunity.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +44,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     
     /**
      * User 엔티티를 스프링 시큐리티의 UserDetails로 변환
+     * 탈퇴 계정은 비활성(disabled), 정지 계정은 잠금(locked)으로 표시
      */
     private UserDetails createUserDetails(User user) {
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
@@ -50,6 +52,10 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
                 String.valueOf(user.getId()),  // 사용자 ID를 username으로 사용
                 user.getPassword(),
+                user.getStatus() != UserStatus.DELETED,
+                true,
+                true,
+                user.getStatus() != UserStatus.SUSPENDED,
                 Collections.singleton(authority)
         );
     }
@@ -0,0 +1,95 @@
+package com.coincommunity.backend.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * WebSocket 핸드셰이크 JWT 인증 인터셉터
+ *
+ * 업그레이드 전에 토큰을 한 번만 검증하고, 사용자 ID와 권한을 세션 속성에 저장합니다.
+ * 이후 세션에서는 토큰 파싱이나 사용자 조회 없이 속성만 사용합니다.
+ *
+ * 토큰은 Authorization 헤더(Bearer) 또는 브라우저용 token 쿼리 파라미터로 전달합니다.
+ * - 토큰이 있지만 유효하지 않으면 항상 401로 거부
+ * - required 인 엔드포인트는 토큰이 없어도 401로 거부
+ */
+@Slf4j
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String ROLES_ATTRIBUTE = "roles";
+
+    private static final String TOKEN_PARAMETER = "token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean required;
+
+    public JwtHandshakeInterceptor(JwtTokenProvider jwtTokenProvider, boolean required) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.required = required;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        if (!StringUtils.hasText(token)) {
+            if (required) {
+                log.debug("WebSocket 핸드셰이크 거부 - 토큰 없음: {}", request.getURI().getPath());
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            return true;
+        }
+
+        try {
+            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Set<String> roles = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toUnmodifiableSet());
+            attributes.put(USER_ID_ATTRIBUTE, Long.valueOf(authentication.getName()));
+            attributes.put(ROLES_ATTRIBUTE, roles);
+            return true;
+        } catch (JwtException | AuthenticationException | IllegalArgumentException e) {
+            log.debug("WebSocket 핸드셰이크 거부 - 유효하지 않은 토큰: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /**
+     * 세션 속성에서 사용자 ID 조회 (인증되지 않은 세션이면 null)
+     */
+    public static Long getUserId(Map<String, Object> attributes) {
+        Object userId = attributes.get(USER_ID_ATTRIBUTE);
+        return userId instanceof Long id ? id : null;
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams().getFirst(TOKEN_PARAMETER);
+    }
+}
@@ -1,18 +1,25 @@
 package com.coincommunity.backend.security;
 
+import com.coincommunity.backend.entity.UserRole;
+import com.coincommunity.backend.entity.UserStatus;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
 
 /**
@@ -31,11 +38,16 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenValidityInMilliseconds;
     
+    private static final String ROLE_CLAIM = "role";
+    private static final String STATUS_CLAIM = "status";
+
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
     private SecretKey key;
     
-    public JwtTokenProvider(UserDetailsService userDetailsService) {
+    public JwtTokenProvider(UserDetailsService userDetailsService, PrincipalCache principalCache) {
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
     
     @PostConstruct
@@ -47,7 +59,21 @@ public class JwtTokenProvider {
      * 사용자 ID를 기반으로 액세스 토큰 생성
      */
     public String createAccessToken(Long userId) {
+        return createAccessToken(userId, null, null);
+    }
+
+    /**
+     * 사용자 ID와 역할/상태를 기반으로 액세스 토큰 생성
+     * 역할 클레임과 활성 상태 클레임이 있으면 인증 시 DB 조회 없이 권한 정보를 구성할 수 있음
+     */
+    public String createAccessToken(Long userId, UserRole role, UserStatus status) {
         Claims claims = Jwts.claims().setSubject(userId.toString());
+        if (role != null) {
+            claims.put(ROLE_CLAIM, role.name());
+        }
+        if (status != null) {
+            claims.put(STATUS_CLAIM, status.name());
+        }
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
         
@@ -77,13 +103,60 @@ public class JwtTokenProvider {
     
     /**
      * 토큰에서 인증 정보 추출
+     * 1. 로컬 캐시의 인증 주체 사용
+     * 2. 캐시에 없으면 역할 클레임으로 구성 (토큰 발급 이후 역할/상태 변경이 없는 경우)
+     * 3. 클레임을 신뢰할 수 없으면 DB에서 조회
      */
     public Authentication getAuthentication(String token) {
-        String userIdStr = getUserIdFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userIdStr);
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        String userIdStr = claims.getSubject();
+        Long userId = Long.valueOf(userIdStr);
+
+        UserDetails userDetails = principalCache.get(userId).orElseGet(() -> {
+            UserDetails loaded = fromClaims(userId, claims);
+            if (loaded == null) {
+                loaded = userDetailsService.loadUserByUsername(userIdStr);
+                // 캐시에는 비밀번호 해시를 보관하지 않음
+                if (loaded instanceof CredentialsContainer credentialsContainer) {
+                    credentialsContainer.eraseCredentials();
+                }
+            }
+            principalCache.put(userId, loaded);
+            return loaded;
+        });
+
+        if (!userDetails.isEnabled()) {
+            throw new DisabledException("비활성화된 계정입니다. ID: " + userIdStr);
+        }
+        if (!userDetails.isAccountNonLocked()) {
+            throw new LockedException("정지된 계정입니다. ID: " + userIdStr);
+        }
         
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
+
+    /**
+     * 역할 클레임으로 인증 주체 구성
+     * 클레임이 없거나, 발급 당시 활성 상태가 아니었거나, 발급 이후 사용자 정보가 변경된 경우 null (DB 조회)
+     */
+    private UserDetails fromClaims(Long userId, Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        String status = claims.get(STATUS_CLAIM, String.class);
+        Date issuedAt = claims.getIssuedAt();
+        if (role == null || !UserStatus.ACTIVE.name().equals(status) || issuedAt == null
+                || !principalCache.isIssuedAfterLastChange(userId, issuedAt.getTime())) {
+            return null;
+        }
+        return new org.springframework.security.core.userdetails.User(
+                String.valueOf(userId),
+                "",
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
     
     /**
      * 토큰에서 사용자 ID 추출
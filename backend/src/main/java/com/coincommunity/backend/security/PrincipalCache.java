@@ -0,0 +1,218 @@
+package com.coincommunity.backend.security;
+
+import com.coincommunity.backend.websocket.BackplaneMessage;
+import com.coincommunity.backend.websocket.WebSocketBackplane;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 주체(Principal) 로컬 캐시
+ *
+ * 인증된 요청마다 권한 정보를 만들기 위해 사용자 테이블을 조회하지 않도록,
+ * 토큰 클레임 또는 DB에서 만든 UserDetails를 사용자 ID 기준으로 보관합니다.
+ *
+ * 역할/상태가 변경되면 변경 시각을 백플레인으로 모든 노드에 알려
+ * - 변경 이전에 적재된 캐시 엔트리는 무시하고
+ * - 변경 이전에 발급된 토큰의 클레임은 신뢰하지 않고 DB에서 다시 조회하도록 합니다.
+ * 요청 처리 중에는 로컬 변경 기록만 확인하며 (네트워크 조회 없음),
+ * 재시작한 노드는 기동 시 Redis에 보관된 변경 시각을 한 번 읽어 채웁니다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String CHANGED_AT_KEY_PREFIX = "auth:principal-changed:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WebSocketBackplane webSocketBackplane;
+    private final Map<Long, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    // 사용자별 마지막 역할/상태 변경 시각 (백플레인 알림과 기동 시 Redis 값으로 채움)
+    private final Map<Long, Long> changedAtByUser = new ConcurrentHashMap<>();
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenValidityInMilliseconds;
+
+    public PrincipalCache(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                          WebSocketBackplane webSocketBackplane) {
+        this.redisTemplate = redisTemplate;
+        this.webSocketBackplane = webSocketBackplane;
+    }
+
+    @PostConstruct
+    public void init() {
+        webSocketBackplane.subscribe(BackplaneMessage.Kind.PRINCIPAL, this::onPrincipalChanged);
+        loadChangedAt();
+    }
+
+    /**
+     * 캐시된 인증 주체 조회 (만료되었거나 사용자 정보 변경 이전에 적재된 경우 제외)
+     */
+    public Optional<UserDetails> get(Long userId) {
+        CachedPrincipal cached = principals.get(userId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        if (now - cached.loadedAt > ttlSeconds * 1000 || cached.loadedAt < changedAt(userId)) {
+            principals.remove(userId, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached.userDetails);
+    }
+
+    /**
+     * 인증 주체 저장
+     */
+    public void put(Long userId, UserDetails userDetails) {
+        if (principals.size() >= maxSize) {
+            shrink();
+        }
+        principals.put(userId, new CachedPrincipal(userDetails, System.currentTimeMillis()));
+    }
+
+    /**
+     * 토큰 클레임을 신뢰할 수 있는지 확인 (토큰 발급 이후 사용자 정보가 변경되지 않은 경우)
+     */
+    public boolean isIssuedAfterLastChange(Long userId, long issuedAtMillis) {
+        // JWT iat는 초 단위이므로 같은 초에 변경된 경우는 신뢰하지 않음
+        return issuedAtMillis > changedAt(userId);
+    }
+
+    /**
+     * 역할/상태 변경 시 호출 - 캐시 제거 및 이전 발급 토큰의 클레임 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이전에 다른 요청이 변경 전 데이터를 다시 적재할 수 있으므로
+     * 커밋 직후 한 번 더 무효화합니다.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long userId) {
+        long now = System.currentTimeMillis();
+        markChanged(userId, now);
+        // 다른 노드에 알림 (현재 노드 구독자에게도 전달되지만 이미 반영된 값이므로 영향 없음)
+        webSocketBackplane.publish(BackplaneMessage.principal(userId, String.valueOf(now)));
+        try {
+            // 재시작한 노드를 위해 변경 이전에 발급된 토큰이 모두 만료될 때까지만 보관
+            redisTemplate.opsForValue().set(CHANGED_AT_KEY_PREFIX + userId, String.valueOf(now),
+                    accessTokenValidityInMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("인증 주체 변경 시각 기록 실패: userId={}, 원인={}", userId, e.getMessage());
+        }
+        log.debug("인증 주체 캐시 무효화: userId={}", userId);
+    }
+
+    /**
+     * 백플레인으로 수신한 변경 알림 반영
+     */
+    private void onPrincipalChanged(BackplaneMessage message) {
+        try {
+            markChanged(message.getUserId(), Long.parseLong(message.getPayload()));
+        } catch (RuntimeException e) {
+            log.warn("인증 주체 변경 알림 해석 실패: origin={}, 원인={}", message.getOrigin(), e.getMessage());
+        }
+    }
+
+    private void markChanged(Long userId, long changedAt) {
+        changedAtByUser.merge(userId, changedAt, Math::max);
+        principals.remove(userId);
+    }
+
+    /**
+     * 기동 시 Redis에 남아 있는 변경 시각 적재 (실패해도 기동은 계속하고 이후 알림으로 채움)
+     */
+    private void loadChangedAt() {
+        ScanOptions options = ScanOptions.scanOptions().match(CHANGED_AT_KEY_PREFIX + "*").count(500).build();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = redisTemplate.opsForValue().get(key);
+                if (value != null) {
+                    changedAtByUser.merge(Long.parseLong(key.substring(CHANGED_AT_KEY_PREFIX.length())),
+                            Long.parseLong(value), Math::max);
+                    loaded++;
+                }
+            }
+            log.info("인증 주체 변경 기록 적재: {}건", loaded);
+        } catch (Exception e) {
+            log.warn("인증 주체 변경 기록 적재 실패: 원인={}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return principals.size();
+    }
+
+    /**
+     * 만료된 캐시와 모든 토큰이 만료되어 더 이상 필요 없는 변경 기록 정리
+     */
+    @Scheduled(fixedRate = 600000)
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        principals.entrySet().removeIf(entry -> now - entry.getValue().loadedAt > ttlSeconds * 1000);
+        changedAtByUser.entrySet().removeIf(entry -> now - entry.getValue() > accessTokenValidityInMilliseconds);
+    }
+
+    /**
+     * 마지막 역할/상태 변경 시각 (로컬 기록만 확인)
+     */
+    private long changedAt(Long userId) {
+        return changedAtByUser.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 최대 크기 도달 시 만료 엔트리를 먼저 제거하고, 그래도 가득 차 있으면 10%를 비움
+     */
+    private void shrink() {
+        long now = System.currentTimeMillis();
+        principals.entrySet().removeIf(entry -> now - entry.getValue().loadedAt > ttlSeconds * 1000);
+
+        int target = (int) (maxSize * 0.9);
+        Iterator<Long> iterator = principals.keySet().iterator();
+        while (principals.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class CachedPrincipal {
+        private final UserDetails userDetails;
+        private final long loadedAt;
+
+        private CachedPrincipal(UserDetails userDetails, long loadedAt) {
+            this.userDetails = userDetails;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.coincommunity.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시별 메모리 예산 관리 서비스
+ *
+ * 파라미터 조합이 많은 캐시(거래 내역, 분석글 목록 등)가 Redis 메모리를 잠식해
+ * 가격 캐시까지 밀어내지 않도록, 캐시별 바이트 예산을 두고 초과 시 만료가 가장 임박한
+ * 엔트리부터 제거합니다.
+ *
+ * 캐시마다 Redis에 원장(ledger)을 둡니다.
+ * - entries (ZSET) : Redis 키 → 만료 시각(ms)
+ * - sizes (HASH)   : Redis 키 → 직렬화 바이트 수
+ * - total (STRING) : 합계 바이트 수
+ */
+@Slf4j
+@Service
+public class CacheBudgetService {
+
+    private static final String LEDGER_PREFIX = "coin-community:cache-budget:";
+
+    /**
+     * 엔트리 기록 + 만료 정리 + 예산 초과분 선정 (원자적으로 처리)
+     * 제거 대상 Redis 키 목록을 반환하고, 실제 캐시 키 삭제는 호출 측에서 수행합니다.
+     */
+    private static final RedisScript<List> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[4])
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now)
+            for _, k in ipairs(expired) do
+              local s = tonumber(redis.call('HGET', KEYS[2], k) or '0')
+              redis.call('HDEL', KEYS[2], k)
+              redis.call('DECRBY', KEYS[3], s)
+            end
+            if #expired > 0 then redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) end
+            local old = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            local total = redis.call('INCRBY', KEYS[3], tonumber(ARGV[2]) - old)
+            local budget = tonumber(ARGV[5])
+            local victims = {}
+            while total > budget do
+              local oldest = redis.call('ZRANGE', KEYS[1], 0, 0)
+              if #oldest == 0 or oldest[1] == ARGV[1] then break end
+              local s = tonumber(redis.call('HGET', KEYS[2], oldest[1]) or '0')
+              redis.call('ZREM', KEYS[1], oldest[1])
+              redis.call('HDEL', KEYS[2], oldest[1])
+              total = redis.call('DECRBY', KEYS[3], s)
+              table.insert(victims, oldest[1])
+            end
+            return victims
+            """, List.class);
+
+    /**
+     * 단일 엔트리 원장 제거
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local s = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            return redis.call('DECRBY', KEYS[3], s)
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, DataSize> budgets;
+
+    public CacheBudgetService(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                              @Value("${app.cache.budgets:userTransactions=16MB,portfolioTransactions=8MB,"
+                                      + "coinAnalysis=8MB,latestAnalysesByCoin=4MB,popularAnalyses=4MB,"
+                                      + "expertAnalyses=4MB,publicPortfolios=4MB}") String budgetSpec) {
+        this.redisTemplate = redisTemplate;
+        this.budgets = parseBudgets(budgetSpec);
+        log.info("캐시 메모리 예산 설정: {}", budgets);
+    }
+
+    /**
+     * 캐시에 예산이 설정되어 있으면 예산 관리 객체를 반환 (없으면 null)
+     */
+    public Budget budgetFor(Cache cache) {
+        DataSize limit = budgets.get(cache.getName());
+        RedisCache redisCache = unwrapRedisCache(cache);
+        if (limit == null || redisCache == null) {
+            return null;
+        }
+        return new Budget(redisCache, limit.toBytes());
+    }
+
+    private Map<String, DataSize> parseBudgets(String spec) {
+        Map<String, DataSize> result = new HashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(spec)) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length == 2) {
+                result.put(pair[0].trim(), DataSize.parse(pair[1].trim()));
+            }
+        }
+        return result;
+    }
+
+    private RedisCache unwrapRedisCache(Cache cache) {
+        Cache target = cache;
+        if (target instanceof TransactionAwareCacheDecorator decorator) {
+            target = decorator.getTargetCache();
+        }
+        return target instanceof RedisCache redisCache ? redisCache : null;
+    }
+
+    /**
+     * 캐시 하나의 메모리 예산
+     */
+    public class Budget {
+        private final RedisCache redisCache;
+        private final RedisCacheConfiguration configuration;
+        private final long limitBytes;
+        private final List<String> ledgerKeys;
+
+        Budget(RedisCache redisCache, long limitBytes) {
+            this.redisCache = redisCache;
+            this.configuration = redisCache.getCacheConfiguration();
+            this.limitBytes = limitBytes;
+            // 캐시 키 접두사로 매니저 간 동일 이름 캐시를 구분하고, 해시 태그로 세 키를 같은 슬롯에 배치
+            String base = LEDGER_PREFIX + "{" + configuration.getKeyPrefixFor(redisCache.getName()) + "}";
+            this.ledgerKeys = List.of(base + ":entries", base + ":sizes", base + ":total");
+        }
+
+        /**
+         * 저장된 엔트리를 원장에 기록하고, 예산을 넘으면 오래된 엔트리를 제거합니다.
+         *
+         * @return 예산 초과로 제거된 엔트리 수
+         */
+        public int onPut(Object key, Object value) {
+            try {
+                String redisKey = redisKey(key);
+                ByteBuffer serialized = configuration.getValueSerializationPair().write(value);
+                long size = serialized.remaining() + redisKey.length();
+
+                Duration ttl = configuration.getTtlFunction().getTimeToLive(key, value);
+                long now = System.currentTimeMillis();
+                long expireAt = ttl == null || ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : now + ttl.toMillis();
+
+                @SuppressWarnings("unchecked")
+                List<String> victims = redisTemplate.execute(RECORD_SCRIPT, ledgerKeys,
+                        redisKey, String.valueOf(size), String.valueOf(expireAt), String.valueOf(now),
+                        String.valueOf(limitBytes));
+
+                if (victims == null || victims.isEmpty()) {
+                    return 0;
+                }
+                redisTemplate.delete(victims);
+                log.debug("캐시 예산 초과로 엔트리 제거: {} - {}개", redisCache.getName(), victims.size());
+                return victims.size();
+            } catch (Exception e) {
+                // 예산 관리 실패가 캐시 저장 자체를 실패시키지 않도록 함
+                log.warn("캐시 예산 기록 실패: {} - {}", redisCache.getName(), e.getMessage());
+                return 0;
+            }
+        }
+
+        public void onEvict(Object key) {
+            try {
+                redisTemplate.execute(REMOVE_SCRIPT, ledgerKeys, redisKey(key));
+            } catch (Exception e) {
+                log.warn("캐시 예산 원장 제거 실패: {} - {}", redisCache.getName(), e.getMessage());
+            }
+        }
+
+        public void onClear() {
+            try {
+                redisTemplate.delete(ledgerKeys);
+            } catch (Exception e) {
+                log.warn("캐시 예산 원장 초기화 실패: {} - {}", redisCache.getName(), e.getMessage());
+            }
+        }
+
+        /**
+         * RedisCache가 실제로 사용하는 키 (접두사 + 변환된 키)
+         */
+        private String redisKey(Object key) {
+            String converted = key instanceof String stringKey
+                    ? stringKey
+                    : configuration.getConversionService().convert(key, String.class);
+            return configuration.getKeyPrefixFor(redisCache.getName()) + converted;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.coincommunity.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시별 사용 통계 수집 서비스
+ *
+ * 주요 기능:
+ * - 캐시별 적중/실패, 저장, 제거, 전체 삭제 횟수 및 로딩 시간 집계
+ * - Redis SCAN / MEMORY USAGE 샘플링을 통한 키 개수와 메모리 사용량 추정
+ * - 샘플링 기반 핫 키 집계
+ * - Micrometer 미터 등록 (cache.gets, cache.puts, cache.evictions, cache.load, cache.size, cache.memory)
+ */
+@Slf4j
+@Service
+public class CacheMetricsService {
+
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, CacheStats> statsByCache = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.metrics.hot-key-sample-rate:0.05}")
+    private double hotKeySampleRate;
+
+    @Value("${app.cache.metrics.hot-key-capacity:200}")
+    private int hotKeyCapacity;
+
+    @Value("${app.cache.metrics.hot-key-report-size:10}")
+    private int hotKeyReportSize;
+
+    @Value("${app.cache.metrics.scan-limit:20000}")
+    private int scanLimit;
+
+    @Value("${app.cache.metrics.memory-sample-size:20}")
+    private int memorySampleSize;
+
+    public CacheMetricsService(MeterRegistry meterRegistry,
+                               @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 캐시 등록 및 미터 바인딩 (캐시 매니저별로 최초 1회)
+     */
+    public CacheStats register(String managerName, Cache cache) {
+        String statsKey = managerName + "/" + cache.getName();
+        return statsByCache.computeIfAbsent(statsKey, key -> {
+            CacheStats stats = new CacheStats(managerName, cache.getName(), unwrapRedisCache(cache));
+            bindMeters(stats);
+            return stats;
+        });
+    }
+
+    /**
+     * 전체 캐시 통계 스냅샷
+     */
+    public List<CacheStatsSnapshot> getSnapshots() {
+        return statsByCache.values().stream()
+                .sorted(Comparator.comparing(CacheStats::getManagerName).thenComparing(CacheStats::getCacheName))
+                .map(this::toSnapshot)
+                .toList();
+    }
+
+    /**
+     * 특정 캐시 통계 스냅샷 (캐시 매니저 구분 없이 이름으로 조회)
+     */
+    public List<CacheStatsSnapshot> getSnapshots(String cacheName) {
+        return statsByCache.values().stream()
+                .filter(stats -> stats.getCacheName().equals(cacheName))
+                .map(this::toSnapshot)
+                .toList();
+    }
+
+    /**
+     * 주기적으로 Redis 키 개수/메모리를 샘플링하고 핫 키 카운트를 감쇠시킵니다.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.metrics.sample-interval:60000}", initialDelay = 30000)
+    public void sampleRedisUsage() {
+        for (CacheStats stats : statsByCache.values()) {
+            if (stats.redisCache != null) {
+                try {
+                    sampleKeysAndMemory(stats);
+                } catch (Exception e) {
+                    log.warn("캐시 사용량 샘플링 실패: {} - {}", stats.getCacheName(), e.getMessage());
+                }
+            }
+            stats.decayHotKeys();
+        }
+    }
+
+    private void sampleKeysAndMemory(CacheStats stats) {
+        String prefix = stats.redisCache.getCacheConfiguration().getKeyPrefixFor(stats.getCacheName());
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(escapeGlob(prefix) + "*")
+                .count(500)
+                .build();
+
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            long keyCount = 0;
+            long sampledBytes = 0;
+            int sampled = 0;
+
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext() && keyCount < scanLimit) {
+                    byte[] key = cursor.next();
+                    keyCount++;
+                    if (sampled < memorySampleSize) {
+                        Long usage = memoryUsage(connection, key);
+                        if (usage != null) {
+                            sampledBytes += usage;
+                            sampled++;
+                        }
+                    }
+                }
+            }
+
+            stats.keyCount = keyCount;
+            stats.keyCountTruncated = keyCount >= scanLimit;
+            stats.approximateMemoryBytes = sampled > 0 ? (sampledBytes / sampled) * keyCount : 0;
+            stats.lastSampledAt = LocalDateTime.now();
+            return null;
+        });
+    }
+
+    private Long memoryUsage(RedisConnection connection, byte[] key) {
+        Object result = connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key);
+        return result instanceof Long ? (Long) result : null;
+    }
+
+    private void bindMeters(CacheStats stats) {
+        Tags tags = Tags.of("cache", stats.getCacheName(), "cache.manager", stats.getManagerName());
+
+        FunctionCounter.builder("cache.gets", stats.hits, LongAdder::doubleValue)
+                .tags(tags).tag("result", "hit")
+                .description("캐시 적중 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", stats.misses, LongAdder::doubleValue)
+                .tags(tags).tag("result", "miss")
+                .description("캐시 실패 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.puts", stats.puts, LongAdder::doubleValue)
+                .tags(tags)
+                .description("캐시 저장 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", stats.evictions, LongAdder::doubleValue)
+                .tags(tags)
+                .description("캐시 키 단위 제거 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.clears", stats.clears, LongAdder::doubleValue)
+                .tags(tags)
+                .description("캐시 전체 삭제 횟수")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", stats, s -> s.keyCount)
+                .tags(tags)
+                .description("Redis SCAN 기준 캐시 키 개수")
+                .register(meterRegistry);
+        Gauge.builder("cache.memory", stats, s -> s.approximateMemoryBytes)
+                .tags(tags)
+                .baseUnit("bytes")
+                .description("MEMORY USAGE 샘플 기반 추정 메모리 사용량")
+                .register(meterRegistry);
+        Gauge.builder("cache.hit.ratio", stats, CacheStats::getHitRatio)
+                .tags(tags)
+                .description("캐시 적중률")
+                .register(meterRegistry);
+
+        stats.loadTimer = Timer.builder("cache.load")
+                .tags(tags)
+                .description("캐시 미스 후 값 로딩 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private CacheStatsSnapshot toSnapshot(CacheStats stats) {
+        long hits = stats.hits.sum();
+        long misses = stats.misses.sum();
+        Timer loadTimer = stats.loadTimer;
+        Duration ttl = null;
+        if (stats.redisCache != null) {
+            ttl = stats.redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(null, null);
+        }
+
+        return CacheStatsSnapshot.builder()
+                .cacheManager(stats.getManagerName())
+                .cacheName(stats.getCacheName())
+                .ttlSeconds(ttl != null ? ttl.getSeconds() : null)
+                .hits(hits)
+                .misses(misses)
+                .hitRatio(stats.getHitRatio())
+                .puts(stats.puts.sum())
+                .evictions(stats.evictions.sum())
+                .clears(stats.clears.sum())
+                .loadCount(loadTimer != null ? loadTimer.count() : 0)
+                .averageLoadMillis(loadTimer != null ? loadTimer.mean(TimeUnit.MILLISECONDS) : 0)
+                .maxLoadMillis(loadTimer != null ? loadTimer.max(TimeUnit.MILLISECONDS) : 0)
+                .keyCount(stats.keyCount)
+                .keyCountTruncated(stats.keyCountTruncated)
+                .approximateMemoryBytes(stats.approximateMemoryBytes)
+                .lastSampledAt(stats.lastSampledAt)
+                .hotKeys(stats.topHotKeys(hotKeyReportSize))
+                .build();
+    }
+
+    private RedisCache unwrapRedisCache(Cache cache) {
+        Cache target = cache;
+        if (target instanceof TransactionAwareCacheDecorator decorator) {
+            target = decorator.getTargetCache();
+        }
+        return target instanceof RedisCache redisCache ? redisCache : null;
+    }
+
+    private String escapeGlob(String value) {
+        return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+    }
+
+    /**
+     * 캐시 하나의 누적 통계
+     */
+    @Getter
+    public class CacheStats {
+        private final String managerName;
+        private final String cacheName;
+        private final RedisCache redisCache;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder clears = new LongAdder();
+        private final Map<String, LongAdder> hotKeys = new ConcurrentHashMap<>();
+
+        private volatile Timer loadTimer;
+        private volatile long keyCount;
+        private volatile boolean keyCountTruncated;
+        private volatile long approximateMemoryBytes;
+        private volatile LocalDateTime lastSampledAt;
+
+        CacheStats(String managerName, String cacheName, RedisCache redisCache) {
+            this.managerName = managerName;
+            this.cacheName = cacheName;
+            this.redisCache = redisCache;
+        }
+
+        public void recordLookup(Object key, boolean hit) {
+            (hit ? hits : misses).increment();
+            sampleHotKey(key);
+        }
+
+        public void recordLoad(long nanos) {
+            Timer timer = loadTimer;
+            if (timer != null) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public void recordPut() {
+            puts.increment();
+        }
+
+        public void recordEviction() {
+            evictions.increment();
+        }
+
+        public void recordClear() {
+            clears.increment();
+        }
+
+        public double getHitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        private void sampleHotKey(Object key) {
+            if (key == null || ThreadLocalRandom.current().nextDouble() >= hotKeySampleRate) {
+                return;
+            }
+            String keyString = String.valueOf(key);
+            LongAdder counter = hotKeys.get(keyString);
+            if (counter == null) {
+                // 용량 초과 시 신규 키는 다음 감쇠 주기까지 집계하지 않음
+                if (hotKeys.size() >= hotKeyCapacity) {
+                    return;
+                }
+                counter = hotKeys.computeIfAbsent(keyString, k -> new LongAdder());
+            }
+            counter.increment();
+        }
+
+        /**
+         * 핫 키 카운트를 절반으로 줄이고 남은 값이 없는 키는 제거 (최근 접근 위주로 유지)
+         */
+        private void decayHotKeys() {
+            hotKeys.entrySet().removeIf(entry -> {
+                long halved = entry.getValue().sumThenReset() / 2;
+                entry.getValue().add(halved);
+                return halved == 0;
+            });
+        }
+
+        private Map<String, Long> topHotKeys(int limit) {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>();
+            hotKeys.forEach((key, counter) -> entries.add(Map.entry(key, counter.sum())));
+            entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+            Map<String, Long> result = new LinkedHashMap<>();
+            entries.stream().limit(limit).forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+            return result;
+        }
+    }
+
+    /**
+     * 캐시 통계 조회 응답
+     */
+    @Getter
+    @Builder
+    public static class CacheStatsSnapshot {
+        private final String cacheManager;
+        private final String cacheName;
+        private final Long ttlSeconds;
+        private final long hits;
+        private final long misses;
+        private final double hitRatio;
+        private final long puts;
+        private final long evictions;
+        private final long clears;
+        private final long loadCount;
+        private final double averageLoadMillis;
+        private final double maxLoadMillis;
+        private final long keyCount;
+        private final boolean keyCountTruncated;
+        private final long approximateMemoryBytes;
+        private final LocalDateTime lastSampledAt;
+        // 샘플링된 접근 횟수 (실제 접근 수는 샘플링 비율로 나눈 값에 근사)
+        private final Map<String, Long> hotKeys;
+    }
+}
@@ -0,0 +1,191 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.coincommunity.backend.entity.CoinPrice;
+import com.coincommunity.backend.repository.CoinPriceRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 기동 시 캐시 워밍업 서비스
+ *
+ * 재시작 직후 모든 가격/랭킹 캐시가 비어 있어 첫 요청들이 DB와 외부 API로 몰리는 것을 막기 위해,
+ * 마지막으로 저장된 가격 데이터(DB)로 주요 캐시와 가격표를 미리 채운 뒤 트래픽을 받습니다.
+ * 워밍업이 진행되는 동안 readiness 상태는 REFUSING_TRAFFIC 으로 유지됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService {
+
+    private final CoinPriceRepository coinPriceRepository;
+    private final CoinPriceService coinPriceService;
+    private final KimchiPremiumService kimchiPremiumService;
+    private final PriceBook priceBook;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    // 컨트롤러 기본값(10)을 포함해 자주 요청되는 랭킹 조회 개수
+    @Value("${app.cache.warmup.ranking-limits:10,20,50}")
+    private int[] rankingLimits;
+
+    // 김치 프리미엄은 DB에 저장되지 않아 외부 API를 호출하므로 기본 비활성화
+    @Value("${app.cache.warmup.include-premium:false}")
+    private boolean includePremium;
+
+    @Getter
+    private volatile WarmupReport lastReport;
+
+    /**
+     * 기동 완료 직후 워밍업 수행 (완료 전까지 트래픽 수신 보류)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("캐시 워밍업 비활성화 상태 - 건너뜀");
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        try {
+            warmUp();
+        } finally {
+            // 워밍업 실패 시에도 서비스는 콜드 캐시로 정상 동작하므로 트래픽 수신을 재개
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    /**
+     * DB에 저장된 마지막 가격 데이터로 캐시와 가격표를 채웁니다.
+     */
+    public WarmupReport warmUp() {
+        long startTime = System.currentTimeMillis();
+        int warmedEntries = 0;
+        int loadedPrices = 0;
+        boolean success = true;
+
+        try {
+            // 1. 전체 가격을 한 번에 조회하여 가격표와 코인/거래소별 캐시를 직접 채움
+            List<CoinPrice> coinPrices = coinPriceRepository.findAll();
+            loadedPrices = coinPrices.size();
+            priceBook.putAll(coinPrices);
+
+            warmedEntries += warmCoinPriceEntries(coinPrices);
+            warmedEntries += warmCurrentPriceEntries(coinPrices);
+
+            // 2. 목록/랭킹 캐시는 서비스 프록시를 통해 동일한 키로 적재
+            coinPriceService.getAllCoinPrices();
+            warmedEntries++;
+
+            Set<String> exchanges = coinPrices.stream()
+                    .map(CoinPrice::getExchange)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            for (String exchange : exchanges) {
+                coinPriceService.getCoinPricesByExchange(exchange);
+                warmedEntries++;
+            }
+
+            for (int limit : rankingLimits) {
+                coinPriceService.getTopCoinsByMarketCap(limit);
+                coinPriceService.getTopGainers(limit);
+                coinPriceService.getTopLosers(limit);
+                warmedEntries += 3;
+            }
+
+            // 3. 선택적으로 김치 프리미엄 캐시 적재
+            if (includePremium) {
+                try {
+                    kimchiPremiumService.getAllKimchiPremiums();
+                    warmedEntries++;
+                } catch (Exception e) {
+                    log.warn("김치 프리미엄 캐시 워밍업 실패 - 첫 요청 시 적재됩니다: {}", e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            success = false;
+            log.error("캐시 워밍업 중 오류 발생 - 콜드 캐시로 기동합니다", e);
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        lastReport = new WarmupReport(success, loadedPrices, warmedEntries, duration, LocalDateTime.now());
+        log.info("캐시 워밍업 완료: 성공={}, 가격 {}건, 캐시 엔트리 {}개, 소요시간 {}ms",
+                success, loadedPrices, warmedEntries, duration);
+        return lastReport;
+    }
+
+    /**
+     * 워밍업 완료 여부
+     */
+    public boolean isWarmedUp() {
+        WarmupReport report = lastReport;
+        return report != null && report.isSuccess();
+    }
+
+    /**
+     * coinPrices 캐시 적재 (CoinPriceService#getCoinPriceByExchange 와 동일한 키)
+     */
+    private int warmCoinPriceEntries(List<CoinPrice> coinPrices) {
+        Cache cache = cacheManager.getCache("coinPrices");
+        if (cache == null) {
+            return 0;
+        }
+        for (CoinPrice coinPrice : coinPrices) {
+            cache.put(coinPrice.getCoinId() + "-" + coinPrice.getExchange(),
+                    CoinPriceDto.CoinPriceResponse.from(coinPrice));
+        }
+        return coinPrices.size();
+    }
+
+    /**
+     * currentPrice 캐시 적재 (코인별 가장 최근 갱신된 가격)
+     */
+    private int warmCurrentPriceEntries(List<CoinPrice> coinPrices) {
+        Cache cache = cacheManager.getCache("currentPrice");
+        if (cache == null) {
+            return 0;
+        }
+        Map<String, CoinPrice> latestByCoin = coinPrices.stream()
+                .filter(coinPrice -> coinPrice.getCurrentPrice() != null && coinPrice.getLastUpdated() != null)
+                .collect(Collectors.toMap(
+                        CoinPrice::getCoinId,
+                        Function.identity(),
+                        (a, b) -> Comparator.comparing(CoinPrice::getLastUpdated).compare(a, b) >= 0 ? a : b));
+        latestByCoin.forEach((coinId, coinPrice) -> cache.put(coinId, coinPrice.getCurrentPrice()));
+        return latestByCoin.size();
+    }
+
+    /**
+     * 워밍업 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class WarmupReport {
+        private final boolean success;
+        private final int loadedPrices;
+        private final int warmedEntries;
+        private final long durationMs;
+        private final LocalDateTime completedAt;
+    }
+}
@@ -157,7 +157,7 @@ public class CoinAnalysisService {
     /**
      * 코인별 분석글 목록 조회
      */
-    @Cacheable(value = "coinAnalysis", key = "#coinId + '-' + #pageable.pageNumber")
+    @Cacheable(value = "coinAnalysis", keyGenerator = "canonicalKeyGenerator")
     public Page<CoinAnalysis> getAnalysisByCoin(String coinId, Pageable pageable) {
         return coinAnalysisRepository.findByCoinIdOrderByCreatedAtDesc(coinId, pageable);
     }
@@ -665,7 +665,7 @@ public class CoinAnalysisService {
     /**
      * 특정 코인의 최신 분석글 조회
      */
-    @Cacheable(value = "latestAnalysesByCoin", key = "#coinSymbol + '_' + #limit + '_' + #sortBy")
+    @Cacheable(value = "latestAnalysesByCoin", keyGenerator = "canonicalKeyGenerator")
     public List<CoinAnalysisDto.Summary> getLatestAnalysesByCoin(String coinSymbol, Integer limit, String sortBy) {
         Pageable pageable = PageRequest.of(0, limit != null ? limit : 10, 
                 Sort.by(Sort.Direction.DESC, sortBy != null ? sortBy : "createdAt"));
@@ -680,7 +680,7 @@ public class CoinAnalysisService {
     /**
      * 인기 분석글 조회
      */
-    @Cacheable(value = "popularAnalyses", key = "#days + '_' + #limit + '_' + #sortBy")
+    @Cacheable(value = "popularAnalyses", keyGenerator = "canonicalKeyGenerator")
     public List<CoinAnalysisDto.Summary> getPopularAnalyses(Integer days, Integer limit, String sortBy) {
         Pageable pageable = PageRequest.of(0, limit != null ? limit : 10, 
                 Sort.by(Sort.Direction.DESC, sortBy != null ? sortBy : "likeCount"));
@@ -710,7 +710,7 @@ public class CoinAnalysisService {
     /**
      * 전문가 분석글 조회
      */
-    @Cacheable(value = "expertAnalyses")
+    @Cacheable(value = "expertAnalyses", keyGenerator = "canonicalKeyGenerator")
     public PageResponse<CoinAnalysisDto.Summary> getExpertAnalyses(CoinAnalysisDto.FilterRequest filter, Pageable pageable) {
         // 임시 구현: 기본 findAll 사용
         Page<CoinAnalysis> analyses = coinAnalysisRepository.findAll(pageable);
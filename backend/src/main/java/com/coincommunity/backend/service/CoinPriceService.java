@@ -15,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 코인 가격 정보 관련 비즈니스 로직을 처리하는 서비스
@@ -26,7 +28,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CoinPriceService {
     
+    private static final String COINGECKO_EXCHANGE = "COINGECKO";
+
     private final CoinPriceRepository coinPriceRepository;
+    private final NegativeResultCache negativeResultCache;
     
     /**
      * 코인 ID와 거래소로 코인 가격 정보를 조회합니다.
@@ -48,28 +53,79 @@ public class CoinPriceService {
     
     /**
      * 특정 거래소의 특정 코인 가격 정보를 조회합니다.
-     * 하이브리드 전략: 주요 코인이 아니면서 요청한 거래소가 COINGECKO가 아닌 경우 실시간 API 호출
+     * 해당 거래소 데이터가 없으면 COINGECKO 데이터 기반 추정치로 응답하며,
+     * 둘 다 없는 조합은 거래소/COINGECKO 툼스톤을 각각 남겨 TTL 동안 DB 조회 없이 바로 예외를 반환합니다.
+     * (COINGECKO 가격이 저장되면 해당 코인의 모든 거래소 조회가 함께 풀리도록 두 툼스톤이 모두 있어야 생략)
      */
     @Cacheable(value = "coinPrices", key = "#coinId + '-' + #exchange")
     public CoinPriceDto.CoinPriceResponse getCoinPriceByExchange(String coinId, String exchange) {
-        try {
-            // 1. DB에서 조회 시도
-            return coinPriceRepository.findByCoinIdAndExchange(coinId, exchange)
-                    .map(CoinPriceDto.CoinPriceResponse::from)
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                        "해당 거래소의 코인 가격 정보를 찾을 수 없습니다. 코인: " + coinId + ", 거래소: " + exchange));
-        } catch (ResourceNotFoundException e) {
-            // DB에 데이터가 없는 경우, COINGECKO 데이터 조회
-            return coinPriceRepository.findByCoinIdAndExchange(coinId, "COINGECKO")
-                    .map(coinPrice -> {
-                        // COINGECKO 데이터를 바탕으로 응답 생성 (거래소 정보만 변경)
-                        CoinPriceDto.CoinPriceResponse response = CoinPriceDto.CoinPriceResponse.from(coinPrice);
-                        response.setExchange(exchange);
-                        response.setNote("* COINGECKO 데이터 기반 추정치");
-                        return response;
-                    })
-                    .orElseThrow(() -> e); // 그래도 없으면 원래 예외 발생
+        String tombstoneKey = tombstoneKey(coinId, exchange);
+        String fallbackTombstoneKey = tombstoneKey(coinId, COINGECKO_EXCHANGE);
+        if (negativeResultCache.find(NegativeResultCache.COIN_PRICE_TOMBSTONES, tombstoneKey,
+                CoinPriceDto.PriceTombstone.class).isPresent()
+                && negativeResultCache.find(NegativeResultCache.COIN_PRICE_TOMBSTONES, fallbackTombstoneKey,
+                CoinPriceDto.PriceTombstone.class).isPresent()) {
+            throw priceNotFound(coinId, exchange);
+        }
+
+        // 요청 거래소와 COINGECKO 데이터를 한 번의 쿼리로 조회
+        List<CoinPrice> candidates = coinPriceRepository.findByCoinIdAndExchangeIn(
+                coinId, List.of(exchange, COINGECKO_EXCHANGE));
+
+        CoinPrice direct = null;
+        CoinPrice fallback = null;
+        for (CoinPrice candidate : candidates) {
+            if (exchange.equals(candidate.getExchange())) {
+                direct = candidate;
+            } else {
+                fallback = candidate;
+            }
+        }
+
+        if (direct != null) {
+            return CoinPriceDto.CoinPriceResponse.from(direct);
+        }
+        if (fallback != null) {
+            // COINGECKO 데이터를 바탕으로 응답 생성 (거래소 정보만 변경)
+            CoinPriceDto.CoinPriceResponse response = CoinPriceDto.CoinPriceResponse.from(fallback);
+            response.setExchange(exchange);
+            response.setNote("* COINGECKO 데이터 기반 추정치");
+            response.setSource(CoinPriceDto.PriceSource.FALLBACK);
+            return response;
         }
+
+        negativeResultCache.record(NegativeResultCache.COIN_PRICE_TOMBSTONES, tombstoneKey,
+                CoinPriceDto.PriceTombstone.missing(coinId, exchange));
+        negativeResultCache.record(NegativeResultCache.COIN_PRICE_TOMBSTONES, fallbackTombstoneKey,
+                CoinPriceDto.PriceTombstone.missing(coinId, COINGECKO_EXCHANGE));
+        throw priceNotFound(coinId, exchange);
+    }
+
+    private static String tombstoneKey(String coinId, String exchange) {
+        return coinId + "-" + exchange;
+    }
+
+    private static String currentPriceTombstoneKey(String coinId) {
+        return "current-" + coinId;
+    }
+
+    /**
+     * 저장된 코인/거래소 조합의 툼스톤만 제거 (커밋 후 제거)
+     */
+    private void evictTombstones(List<CoinPrice> savedPrices) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (CoinPrice saved : savedPrices) {
+            keys.add(tombstoneKey(saved.getCoinId(), saved.getExchange()));
+            keys.add(currentPriceTombstoneKey(saved.getCoinId()));
+        }
+        if (!keys.isEmpty()) {
+            negativeResultCache.evictAll(NegativeResultCache.COIN_PRICE_TOMBSTONES, keys);
+        }
+    }
+
+    private ResourceNotFoundException priceNotFound(String coinId, String exchange) {
+        return new ResourceNotFoundException(
+                "해당 거래소의 코인 가격 정보를 찾을 수 없습니다. 코인: " + coinId + ", 거래소: " + exchange);
     }
     
     /**
@@ -124,9 +180,12 @@ public class CoinPriceService {
      * 코인 가격 정보를 저장하거나 업데이트합니다.
      */
     @Transactional
-    @CacheEvict(value = {"coinPrices", "allCoinPrices", "exchangeCoinPrices", "topMarketCapCoins", "topGainers", "topLosers"}, allEntries = true)
+    @CacheEvict(value = {"coinPrices", "allCoinPrices", "exchangeCoinPrices", "topMarketCapCoins", "topGainers", "topLosers"},
+            allEntries = true)
     public CoinPrice saveCoinPrice(CoinPrice coinPrice) {
-        return coinPriceRepository.save(coinPrice);
+        CoinPrice saved = coinPriceRepository.save(coinPrice);
+        evictTombstones(List.of(saved));
+        return saved;
     }
     
     /**
@@ -134,7 +193,8 @@ public class CoinPriceService {
      * 중복 키 충돌 방지를 위해 이미 존재하는 엔티티는 업데이트합니다.
      */
     @Transactional
-    @CacheEvict(value = {"coinPrices", "allCoinPrices", "exchangeCoinPrices", "topMarketCapCoins", "topGainers", "topLosers"}, allEntries = true)
+    @CacheEvict(value = {"coinPrices", "allCoinPrices", "exchangeCoinPrices", "topMarketCapCoins", "topGainers", "topLosers"},
+            allEntries = true)
     public List<CoinPrice> saveAllCoinPrices(List<CoinPrice> coinPrices) {
         List<CoinPrice> result = new ArrayList<>();
 
@@ -180,6 +240,7 @@ public class CoinPriceService {
             }
         }
 
+        evictTombstones(result);
         return result;
     }
     
@@ -195,8 +256,18 @@ public class CoinPriceService {
      */
     @Cacheable(value = "currentPrice", key = "#coinId")
     public BigDecimal getCurrentPrice(String coinId) {
+        String tombstoneKey = currentPriceTombstoneKey(coinId);
+        if (negativeResultCache.find(NegativeResultCache.COIN_PRICE_TOMBSTONES, tombstoneKey,
+                CoinPriceDto.PriceTombstone.class).isPresent()) {
+            throw new ResourceNotFoundException("코인 가격 정보를 찾을 수 없습니다. 코인 ID: " + coinId);
+        }
+
         CoinPrice coinPrice = coinPriceRepository.findTopByCoinIdOrderByLastUpdatedDesc(coinId)
-                .orElseThrow(() -> new ResourceNotFoundException("코인 가격 정보를 찾을 수 없습니다. 코인 ID: " + coinId));
+                .orElseThrow(() -> {
+                    negativeResultCache.record(NegativeResultCache.COIN_PRICE_TOMBSTONES, tombstoneKey,
+                            CoinPriceDto.PriceTombstone.missing(coinId, null));
+                    return new ResourceNotFoundException("코인 가격 정보를 찾을 수 없습니다. 코인 ID: " + coinId);
+                });
         return coinPrice.getCurrentPrice();
     }
 }
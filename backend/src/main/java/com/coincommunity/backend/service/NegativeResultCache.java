@@ -0,0 +1,97 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.config.InstrumentedCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 부정 결과(조회 결과 없음) 캐시
+ *
+ * 캐시 매니저는 null 값을 저장하지 않으므로, 존재하지 않는 데이터에 대한 반복 조회가
+ * 매번 DB까지 내려가게 됩니다. 짧은 TTL의 전용 캐시에 명시적인 툼스톤 객체를 저장하여
+ * TTL 동안은 DB 조회 없이 바로 "없음"으로 응답할 수 있도록 합니다.
+ *
+ * 툼스톤은 조회 실패 후 예외로 트랜잭션이 롤백되는 경로에서 기록되므로,
+ * 통계 래퍼({@link InstrumentedCacheManager})와 트랜잭션 인지 캐시를 거치지 않고 원본 캐시에 즉시 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NegativeResultCache {
+
+    /**
+     * 코인/거래소 가격 툼스톤 캐시 (가격 저장 시 저장된 키만 무효화)
+     */
+    public static final String COIN_PRICE_TOMBSTONES = "coinPriceTombstones";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 툼스톤 조회
+     */
+    public <T> Optional<T> find(String cacheName, Object key, Class<T> tombstoneType) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(cache.get(key, tombstoneType));
+        } catch (Exception e) {
+            // 툼스톤 조회 실패는 일반 조회로 진행
+            log.debug("툼스톤 조회 실패: {}::{} - {}", cacheName, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 툼스톤 기록
+     */
+    public void record(String cacheName, Object key, Object tombstone) {
+        Cache cache = targetCache(cacheName);
+        if (cache != null) {
+            cache.put(key, tombstone);
+            log.debug("툼스톤 기록: {}::{}", cacheName, key);
+        }
+    }
+
+    /**
+     * 툼스톤 제거 (데이터가 새로 생긴 경우)
+     */
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * 여러 툼스톤 제거 (트랜잭션 안에서는 커밋 후 제거)
+     */
+    public void evictAll(String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+
+    /**
+     * 통계 래퍼와 트랜잭션 인지 데코레이터를 벗긴 원본 캐시 (롤백과 무관하게 즉시 기록)
+     */
+    private Cache targetCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof InstrumentedCacheManager.InstrumentedCache instrumented) {
+            cache = instrumented.getTargetCache();
+        }
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache;
+    }
+}
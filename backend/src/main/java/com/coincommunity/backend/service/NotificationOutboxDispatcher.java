@@ -0,0 +1,301 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.WebSocketDto;
+import com.coincommunity.backend.entity.NotificationOutbox;
+import com.coincommunity.backend.repository.NotificationOutboxRepository;
+import com.coincommunity.backend.repository.NotificationOutboxRepository.OutboxEntry;
+import com.coincommunity.backend.repository.NotificationOutboxRepository.Retry;
+import com.coincommunity.backend.websocket.ClusterMessagingTemplate;
+import com.coincommunity.backend.websocket.NotificationWebSocketHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 Outbox 디스패처
+ *
+ * 커밋된 전송 대기 항목을 배치로 선점해 WebSocket/STOMP/푸시로 전달합니다.
+ * - 사용자별로 묶어 ID 순서대로 전달하고, 사용자 묶음끼리는 notificationExecutor에서 병렬 처리
+ * - 전달 실패 시 선점을 유지한 채 NotificationRetryScheduler(타이머 휠)로 재시도하고,
+ *   재시도 대기 상한에 도달하면 DB 재시도 일정으로 넘김
+ * - 같은 사용자의 뒤 항목은 선점만 풀어 두며, 앞선 항목이 끝날 때까지 선점 조건이 순서를 지켜 줌
+ * - 최대 시도 횟수를 넘긴 항목은 Dead Letter로 옮기고, 전달 완료 항목은 일괄 삭제
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final Set<String> PUSH_TYPES = Set.of("PRICE_ALERT", "MARKET_ALERT");
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final ClusterMessagingTemplate messagingTemplate;
+    private final RealtimeNotificationService realtimeNotificationService;
+    private final NotificationRetryScheduler retryScheduler;
+    private final Executor notificationExecutor;
+
+    private final Timer dispatchTimer;
+    private final Timer deliveryLagTimer;
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    @Value("${notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        NotificationWebSocketHandler notificationWebSocketHandler,
+                                        ClusterMessagingTemplate messagingTemplate,
+                                        RealtimeNotificationService realtimeNotificationService,
+                                        NotificationRetryScheduler retryScheduler,
+                                        @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                        MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.notificationWebSocketHandler = notificationWebSocketHandler;
+        this.messagingTemplate = messagingTemplate;
+        this.realtimeNotificationService = realtimeNotificationService;
+        this.retryScheduler = retryScheduler;
+        this.notificationExecutor = notificationExecutor;
+        this.dispatchTimer = Timer.builder("notification.outbox.dispatch")
+                .description("Outbox 배치 하나의 전달 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder("notification.outbox.lag")
+                .description("알림 기록부터 전달 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("notification.outbox.delivered")
+                .description("전달 완료된 알림 수").register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.outbox.retried")
+                .description("재시도 예약된 알림 수").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("notification.outbox.dead-lettered")
+                .description("최대 시도 횟수를 넘겨 Dead Letter로 옮긴 알림 수").register(meterRegistry);
+    }
+
+    /**
+     * 전송 대기 항목 전달 (가득 찬 배치가 선점되는 동안 계속 처리)
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:200}")
+    public void drain() {
+        try {
+            int claimed;
+            do {
+                LocalDateTime now = LocalDateTime.now();
+                List<OutboxEntry> entries = outboxRepository.claim(batchSize, now, now.plus(Duration.ofMillis(claimTimeoutMs)));
+                claimed = entries.size();
+                if (claimed > 0) {
+                    dispatch(entries);
+                }
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            log.error("알림 Outbox 전달 중 오류", e);
+        }
+    }
+
+    /**
+     * 선점이 만료된 항목을 다시 대기 상태로 전환
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.release-interval-ms:30000}")
+    public void releaseExpiredClaims() {
+        try {
+            int released = outboxRepository.releaseExpiredClaims(LocalDateTime.now());
+            if (released > 0) {
+                log.warn("선점 만료된 알림 Outbox 항목 복구: {}건", released);
+            }
+        } catch (Exception e) {
+            log.error("알림 Outbox 선점 복구 실패", e);
+        }
+    }
+
+    private void dispatch(List<OutboxEntry> entries) {
+        long started = System.nanoTime();
+
+        Map<Long, List<OutboxEntry>> entriesByUser = new LinkedHashMap<>();
+        for (OutboxEntry entry : entries) {
+            entriesByUser.computeIfAbsent(entry.getUserId(), key -> new ArrayList<>()).add(entry);
+        }
+        Map<Long, String> fcmTokens = outboxRepository.findFcmTokens(entriesByUser.keySet());
+
+        List<CompletableFuture<UserResult>> futures = new ArrayList<>(entriesByUser.size());
+        for (Map.Entry<Long, List<OutboxEntry>> userEntries : entriesByUser.entrySet()) {
+            String fcmToken = fcmTokens.get(userEntries.getKey());
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> deliverInOrder(userEntries.getValue(), fcmToken), notificationExecutor));
+        }
+
+        UserResult batchResult = new UserResult();
+        for (CompletableFuture<UserResult> future : futures) {
+            batchResult.merge(future.join());
+        }
+        persist(batchResult);
+
+        dispatchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.debug("알림 Outbox 전달 - 선점: {}건, 사용자: {}명, 완료: {}건, 재시도: {}건, Dead Letter: {}건",
+                entries.size(), entriesByUser.size(), batchResult.deliveredIds.size(),
+                batchResult.claimExtensions.size() + batchResult.rescheduled.size(), batchResult.deadLetters.size());
+    }
+
+    /**
+     * 타이머 휠에서 호출되는 재시도 (notificationRetryExecutor에서 실행)
+     */
+    private void retry(OutboxEntry entry, String fcmToken) {
+        try {
+            persist(deliverInOrder(List.of(entry), fcmToken));
+        } catch (Exception e) {
+            // 선점이 만료되면 Outbox에서 다시 전달됨
+            log.error("알림 재시도 처리 실패: outboxId={}, 사용자ID={}", entry.getId(), entry.getUserId(), e);
+        }
+    }
+
+    /**
+     * 한 사용자의 항목을 ID 순서대로 전달 (앞선 항목이 재시도 대기에 들어가면 뒤 항목은 선점만 풀어 둠)
+     */
+    private UserResult deliverInOrder(List<OutboxEntry> entries, String fcmToken) {
+        UserResult result = new UserResult();
+        boolean blocked = false;
+        for (OutboxEntry entry : entries) {
+            if (blocked) {
+                result.rescheduled.add(Retry.builder()
+                        .id(entry.getId())
+                        .status(NotificationOutbox.Status.PENDING)
+                        .attempts(entry.getAttempts())
+                        .nextAttemptAt(LocalDateTime.now())
+                        .lastError(null)
+                        .build());
+                continue;
+            }
+            try {
+                deliver(entry, fcmToken);
+                result.deliveredIds.add(entry.getId());
+                deliveryLagTimer.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+            } catch (Exception e) {
+                // Dead Letter로 옮긴 항목 뒤의 항목은 이어서 전달
+                blocked = !handleFailure(entry, fcmToken, e, result);
+            }
+        }
+        return result;
+    }
+
+    private void deliver(OutboxEntry entry, String fcmToken) {
+        WebSocketDto.Notification notification = WebSocketDto.Notification.builder()
+                .id(entry.getNotificationId())
+                .userId(entry.getUserId())
+                .type(entry.getType())
+                .title(entry.getTitle())
+                .message(entry.getMessage())
+                .read(false)
+                .relatedId(entry.getResourceId())
+                .createdAt(entry.getCreatedAt())
+                .build();
+
+        // 원시 WebSocket은 백플레인으로 모든 노드에 전달되고, STOMP는 사용자 토픽 구독자에게 전달
+        // 각 경로는 실패 시 예외를 던지므로, 예외 없이 끝난 항목만 전달 완료로 삭제됨
+        // (일부 경로만 성공한 뒤 재시도하면 중복 전달될 수 있으며, 클라이언트는 알림 ID로 중복을 거름)
+        notificationWebSocketHandler.deliverNotification(entry.getUserId(), notification);
+        messagingTemplate.convertAndSendConfirmed("/topic/notifications/" + entry.getUserId(), notification);
+
+        if (fcmToken != null && PUSH_TYPES.contains(entry.getType())) {
+            realtimeNotificationService.deliverPushNotification(fcmToken, entry.getTitle(), entry.getMessage(), entry.getType());
+        }
+    }
+
+    /**
+     * 전달 실패 처리
+     *
+     * @return Dead Letter로 옮긴 경우 true (같은 사용자의 뒤 항목을 계속 전달해도 됨)
+     */
+    private boolean handleFailure(OutboxEntry entry, String fcmToken, Exception e, UserResult result) {
+        int attempts = entry.getAttempts() + 1;
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            deadLetteredCounter.increment();
+            log.error("알림 전달 최종 실패, Dead Letter로 이동: outboxId={}, 사용자ID={}, 시도={}회",
+                    entry.getId(), entry.getUserId(), attempts, e);
+            result.deadLetters.add(Retry.builder()
+                    .id(entry.getId())
+                    .attempts(attempts)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .lastError(error)
+                    .build());
+            return true;
+        }
+
+        long delayMs = retryScheduler.backoffMillis(attempts);
+        OutboxEntry next = entry.toBuilder().attempts(attempts).build();
+        retriedCounter.increment();
+        if (retryScheduler.schedule(() -> retry(next, fcmToken), delayMs)) {
+            log.warn("알림 전달 실패, 재시도 예약: outboxId={}, 사용자ID={}, 시도={}/{}, 대기={}ms",
+                    entry.getId(), entry.getUserId(), attempts, maxAttempts, delayMs);
+            result.claimExtensions.add(Retry.builder()
+                    .id(entry.getId())
+                    .attempts(attempts)
+                    .nextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs + claimTimeoutMs)))
+                    .lastError(error)
+                    .build());
+        } else {
+            // 재시도 대기 상한 도달: DB 재시도 일정으로 넘겨 폴링에서 다시 선점
+            log.warn("알림 재시도 대기 상한 도달, Outbox 재시도로 전환: outboxId={}, 사용자ID={}, 시도={}/{}",
+                    entry.getId(), entry.getUserId(), attempts, maxAttempts);
+            result.rescheduled.add(Retry.builder()
+                    .id(entry.getId())
+                    .status(NotificationOutbox.Status.PENDING)
+                    .attempts(attempts)
+                    .nextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs)))
+                    .lastError(error)
+                    .build());
+        }
+        return false;
+    }
+
+    private void persist(UserResult result) {
+        outboxRepository.deleteAll(result.deliveredIds);
+        outboxRepository.reschedule(result.rescheduled);
+        outboxRepository.extendClaims(result.claimExtensions);
+        outboxRepository.moveToDeadLetter(result.deadLetters, LocalDateTime.now());
+        deliveredCounter.increment(result.deliveredIds.size());
+    }
+
+    /**
+     * 사용자 한 명(또는 배치 전체)의 전달 결과
+     */
+    private static final class UserResult {
+        private final List<Long> deliveredIds = new ArrayList<>();
+        private final List<Retry> rescheduled = new ArrayList<>();
+        private final List<Retry> claimExtensions = new ArrayList<>();
+        private final List<Retry> deadLetters = new ArrayList<>();
+
+        private void merge(UserResult other) {
+            deliveredIds.addAll(other.deliveredIds);
+            rescheduled.addAll(other.rescheduled);
+            claimExtensions.addAll(other.claimExtensions);
+            deadLetters.addAll(other.deadLetters);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.entity.NotificationPreference;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 알림 설정 변경 감지 엔티티 리스너
+ *
+ * NotificationPreference가 저장/수정/삭제되면 해당 사용자의 설정 스냅샷을 무효화합니다.
+ * 트랜잭션 안에서는 커밋 이후에 무효화하여, 커밋 전 값이 다시 캐시되지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPreferenceListener {
+
+    private final NotificationPreferenceSnapshot notificationPreferenceSnapshot;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(NotificationPreference preference) {
+        if (preference.getUser() == null) {
+            return;
+        }
+        Long userId = preference.getUser().getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationPreferenceSnapshot.invalidate(userId);
+                }
+            });
+        } else {
+            notificationPreferenceSnapshot.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.repository.NotificationPreferenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 알림 설정 스냅샷
+ *
+ * 수신자 목록의 알림 설정을 IN 쿼리로 한 번에 읽어, 사용자별로 비활성화된 알림 타입을 비트셋으로 보관합니다.
+ * 알림 타입 문자열은 처음 등장할 때 비트 번호를 배정하며, 설정 행이 없는 타입은 기본값(활성)으로 봅니다.
+ * 한 번 불러온 사용자는 설정이 바뀌거나(NotificationPreferenceListener) 만료 시간이 지날 때까지 메모리에서 판단합니다.
+ * 다른 노드에서 바뀐 설정은 만료 시간 안에 반영됩니다.
+ */
+@Slf4j
+@Service
+public class NotificationPreferenceSnapshot {
+
+    // IN 절 파라미터 수 제한
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    private static final BitSet NONE_DISABLED = new BitSet(0);
+
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+    private final Map<String, Integer> typeBits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTypeBit = new AtomicInteger();
+    private final LinkedHashMap<Long, UserPreferences> snapshots;
+    // 조회 도중 무효화된 설정을 캐시에 넣지 않기 위한 버전 (snapshots 잠금으로 보호)
+    private long invalidationVersion;
+
+    @Value("${notification.preference.snapshot-ttl-ms:600000}")
+    private long ttlMs;
+
+    public NotificationPreferenceSnapshot(NotificationPreferenceRepository notificationPreferenceRepository,
+                                          @Value("${notification.preference.snapshot-max-users:200000}") int maxUsers) {
+        this.notificationPreferenceRepository = notificationPreferenceRepository;
+        // 접근 순서 기준으로 오래 쓰지 않은 사용자부터 제거
+        this.snapshots = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPreferences> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 수신자 목록의 설정을 불러온 뷰 반환 (없는 사용자만 DB에서 일괄 조회)
+     */
+    public View load(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, UserPreferences> view = new HashMap<>(Math.max(16, userIds.size() * 2));
+        Set<Long> missing = new LinkedHashSet<>();
+        long version;
+        synchronized (snapshots) {
+            version = invalidationVersion;
+            for (Long userId : userIds) {
+                UserPreferences cached = snapshots.get(userId);
+                if (cached != null && cached.expiresAt > now) {
+                    view.put(userId, cached);
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, UserPreferences> loaded = fetch(missing, now + ttlMs);
+            view.putAll(loaded);
+            synchronized (snapshots) {
+                if (version == invalidationVersion) {
+                    loaded.forEach((userId, preferences) -> {
+                        if (preferences.expiresAt > now) {
+                            snapshots.put(userId, preferences);
+                        }
+                    });
+                }
+            }
+        }
+        return new View(view);
+    }
+
+    /**
+     * 단일 사용자 알림 타입 활성화 여부
+     */
+    public boolean isEnabled(Long userId, String notificationType) {
+        return load(List.of(userId)).isEnabled(userId, notificationType);
+    }
+
+    /**
+     * 사용자 설정 무효화 (설정 변경 시)
+     */
+    public void invalidate(Long userId) {
+        synchronized (snapshots) {
+            snapshots.remove(userId);
+            invalidationVersion++;
+        }
+    }
+
+    private Map<Long, UserPreferences> fetch(Set<Long> userIds, long expiresAt) {
+        Map<Long, BitSet> disabledByUser = new HashMap<>();
+        try {
+            List<Long> ids = new ArrayList<>(userIds);
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+                for (Object[] row : notificationPreferenceRepository.findDisabledTypesByUserIdIn(chunk)) {
+                    disabledByUser.computeIfAbsent((Long) row[0], key -> new BitSet()).set(bitOf((String) row[1]));
+                }
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 기본값(활성)으로 판단하되 캐시에는 넣지 않음
+            log.warn("알림 설정 일괄 조회 실패, 기본값 사용: 대상={}명", userIds.size(), e);
+            Map<Long, UserPreferences> defaults = new HashMap<>();
+            UserPreferences allEnabled = new UserPreferences(NONE_DISABLED, 0L);
+            userIds.forEach(userId -> defaults.put(userId, allEnabled));
+            return defaults;
+        }
+
+        Map<Long, UserPreferences> loaded = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            loaded.put(userId, new UserPreferences(disabledByUser.getOrDefault(userId, NONE_DISABLED), expiresAt));
+        }
+        log.debug("알림 설정 일괄 조회 - 대상: {}명, 비활성 설정 보유: {}명", userIds.size(), disabledByUser.size());
+        return loaded;
+    }
+
+    private int bitOf(String notificationType) {
+        return typeBits.computeIfAbsent(notificationType, type -> nextTypeBit.getAndIncrement());
+    }
+
+    /**
+     * 불러온 수신자들의 설정 (조회 없이 메모리에서 판단)
+     */
+    public final class View {
+        private final Map<Long, UserPreferences> preferences;
+
+        private View(Map<Long, UserPreferences> preferences) {
+            this.preferences = preferences;
+        }
+
+        public boolean isEnabled(Long userId, String notificationType) {
+            UserPreferences user = preferences.get(userId);
+            if (user == null || user.disabled.isEmpty()) {
+                return true;
+            }
+            Integer bit = typeBits.get(notificationType);
+            return bit == null || !user.disabled.get(bit);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 비활성 알림 타입 (불변)
+     */
+    private static final class UserPreferences {
+        private final BitSet disabled;
+        private final long expiresAt;
+
+        private UserPreferences(BitSet disabled, long expiresAt) {
+            this.disabled = disabled;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
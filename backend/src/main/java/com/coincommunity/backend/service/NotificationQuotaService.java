@@ -0,0 +1,175 @@
+package com.coincommunity.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 사용자별 일일 알림 한도 서비스 (Redis 카운터)
+ *
+ * 사용자별로 notification:quota:{날짜}:{사용자ID} 카운터를 INCR로 증가시키고 한국 시간 자정에 만료시킵니다.
+ * 수신자 목록 전체를 파이프라인 한 번으로 처리하며, INCR 결과가 한도 이하인 사용자만 발송 대상으로 돌려줍니다.
+ * 오늘 한도를 다 쓴 사용자는 로컬 비트맵에 기록해 같은 날 다시 Redis에 묻지 않습니다.
+ * Redis 장애 시에는 알림이 누락되지 않도록 모든 사용자를 허용합니다.
+ */
+@Slf4j
+@Service
+public class NotificationQuotaService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String KEY_PREFIX = "notification:quota:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.notification.max-daily-notifications:50}")
+    private int maxDailyNotifications;
+
+    // 오늘 한도를 다 쓴 사용자 (날짜가 바뀌면 초기화)
+    private final BitSet exhaustedUsers = new BitSet();
+    private LocalDate exhaustedDay;
+
+    public NotificationQuotaService(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 수신자 목록에서 오늘 한도가 남은 사용자만 골라 한 건씩 차감
+     *
+     * @return 발송 가능한 사용자 ID (입력 순서 유지)
+     */
+    public List<Long> acquire(List<Long> userIds) {
+        LocalDate today = LocalDate.now(KST);
+        List<Long> candidates = new ArrayList<>(userIds.size());
+        synchronized (exhaustedUsers) {
+            resetIfNewDay(today);
+            for (Long userId : userIds) {
+                if (!isExhaustedLocally(userId)) {
+                    candidates.add(userId);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Long> counts;
+        try {
+            counts = incrementAll(candidates, today);
+        } catch (Exception e) {
+            log.warn("알림 한도 카운터 조회 실패, 한도 확인 없이 허용: 대상={}명", candidates.size(), e);
+            return candidates;
+        }
+
+        List<Long> eligible = new ArrayList<>(candidates.size());
+        synchronized (exhaustedUsers) {
+            resetIfNewDay(today);
+            for (int i = 0; i < candidates.size(); i++) {
+                Long userId = candidates.get(i);
+                long count = counts.get(i);
+                if (count <= maxDailyNotifications) {
+                    eligible.add(userId);
+                }
+                if (count >= maxDailyNotifications) {
+                    markExhausted(userId);
+                }
+            }
+        }
+        log.debug("알림 한도 확인 - 요청: {}명, Redis 확인: {}명, 허용: {}명",
+                userIds.size(), candidates.size(), eligible.size());
+        return eligible;
+    }
+
+    /**
+     * 한도 확인 없이 발송된 알림을 오늘 사용량에 반영
+     */
+    public void record(Long userId) {
+        try {
+            incrementAll(List.of(userId), LocalDate.now(KST));
+        } catch (Exception e) {
+            log.warn("알림 한도 카운터 증가 실패: 사용자ID={}", userId, e);
+        }
+    }
+
+    /**
+     * acquire로 차감한 한도 반환 (알림 기록이 롤백된 경우)
+     */
+    public void release(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(KST);
+        String dayKey = KEY_PREFIX + today.format(DAY_FORMAT) + ":";
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.stringCommands().decr((dayKey + userId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("알림 한도 반환 실패: 대상={}명", userIds.size(), e);
+        }
+        synchronized (exhaustedUsers) {
+            resetIfNewDay(today);
+            for (Long userId : userIds) {
+                if (userId != null && userId >= 0 && userId <= Integer.MAX_VALUE) {
+                    exhaustedUsers.clear(userId.intValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * INCR + EXPIREAT을 파이프라인 한 번으로 실행하고 사용자별 증가 후 값을 반환
+     */
+    private List<Long> incrementAll(List<Long> userIds, LocalDate day) {
+        String dayKey = KEY_PREFIX + day.format(DAY_FORMAT) + ":";
+        long expireAt = day.plusDays(1).atStartOfDay(KST).toEpochSecond();
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                byte[] key = (dayKey + userId).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(key);
+                connection.keyCommands().expireAt(key, expireAt);
+            }
+            return null;
+        });
+
+        // 결과는 (INCR, EXPIREAT) 순서로 번갈아 들어옴
+        List<Long> counts = new ArrayList<>(userIds.size());
+        for (int i = 0; i < results.size(); i += 2) {
+            Object value = results.get(i);
+            counts.add(value instanceof Number ? ((Number) value).longValue() : Long.parseLong(String.valueOf(value)));
+        }
+        return counts;
+    }
+
+    private void resetIfNewDay(LocalDate today) {
+        if (!today.equals(exhaustedDay)) {
+            exhaustedUsers.clear();
+            exhaustedDay = today;
+        }
+    }
+
+    private boolean isExhaustedLocally(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE && exhaustedUsers.get(userId.intValue());
+    }
+
+    private void markExhausted(Long userId) {
+        if (userId != null && userId >= 0 && userId <= Integer.MAX_VALUE) {
+            exhaustedUsers.set(userId.intValue());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.util.TimerWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 전달 재시도 스케줄러
+ *
+ * 실패한 전달을 타이머 휠에 등록해 지터가 적용된 지수 백오프 뒤에 전용 notificationRetryExecutor에서 다시 실행합니다.
+ * 대기 중에는 어떤 스레드도 점유하지 않으며, 대기 중인 재시도 수가 상한에 도달하면 등록을 거부해
+ * 호출자가 DB 재시도 일정으로 넘기도록 합니다. 재시도 풀이 포화되면 휠이 다음 틱에 다시 넘깁니다.
+ */
+@Slf4j
+@Component
+public class NotificationRetryScheduler {
+
+    private final TimerWheel timerWheel;
+    private final Counter scheduledCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${notification.retry.initial-delay-ms:500}")
+    private long initialDelayMs;
+
+    @Value("${notification.retry.max-delay-ms:30000}")
+    private long maxDelayMs;
+
+    public NotificationRetryScheduler(@Qualifier("notificationRetryExecutor") Executor notificationRetryExecutor,
+                                      @Value("${notification.retry.tick-ms:100}") long tickMs,
+                                      @Value("${notification.retry.wheel-size:512}") int wheelSize,
+                                      @Value("${notification.retry.max-in-flight:10000}") int maxInFlight,
+                                      MeterRegistry meterRegistry) {
+        this.timerWheel = new TimerWheel("notification-retry-wheel", tickMs, wheelSize, maxInFlight, notificationRetryExecutor);
+        this.scheduledCounter = Counter.builder("notification.retry.scheduled")
+                .description("타이머 휠에 등록된 알림 재시도 수").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.retry.rejected")
+                .description("대기 상한으로 등록이 거부된 알림 재시도 수").register(meterRegistry);
+        Gauge.builder("notification.retry.in-flight", timerWheel, TimerWheel::pendingCount)
+                .description("대기 중인 알림 재시도 수").register(meterRegistry);
+    }
+
+    /**
+     * n번째 시도 실패 후의 대기 시간 (지수 백오프의 절반 + 무작위 절반)
+     */
+    public long backoffMillis(int attempts) {
+        long ceiling = Math.min(initialDelayMs << Math.min(Math.max(attempts - 1, 0), 20), maxDelayMs);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * 재시도 등록
+     *
+     * @return 대기 상한에 도달해 등록하지 못한 경우 false
+     */
+    public boolean schedule(Runnable retry, long delayMillis) {
+        if (timerWheel.schedule(retry, delayMillis, TimeUnit.MILLISECONDS)) {
+            scheduledCounter.increment();
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int pending = timerWheel.pendingCount();
+        timerWheel.stop();
+        if (pending > 0) {
+            // 대기 중이던 항목은 선점 만료 후 Outbox에서 다시 전달됨
+            log.info("알림 재시도 스케줄러 종료: 대기 중이던 재시도 {}건은 Outbox에서 다시 전달됩니다", pending);
+        }
+    }
+}
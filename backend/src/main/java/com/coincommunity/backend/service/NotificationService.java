@@ -6,15 +6,17 @@ import com.coincommunity.backend.entity.User;
 import com.coincommunity.backend.exception.ResourceNotFoundException;
 import com.coincommunity.backend.repository.NotificationRepository;
 import com.coincommunity.backend.repository.UserRepository;
+import com.coincommunity.backend.websocket.ClusterMessagingTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,7 +35,8 @@ public class NotificationService {
     
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessagingTemplate messagingTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     @Lazy
     private final RealtimeNotificationService realtimeNotificationService;
     
@@ -55,6 +58,7 @@ public class NotificationService {
                 .build();
         
         notification = notificationRepository.save(notification);
+        unreadNotificationCounter.adjustAfterCommit(request.getUserId(), 1);
         
         return NotificationDto.Response.from(notification);
     }
@@ -94,7 +98,7 @@ public class NotificationService {
             throw new ResourceNotFoundException("User", "id", userId);
         }
         
-        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long unreadCount = unreadNotificationCounter.get(userId);
         
         List<Notification> latestNotifications = notificationRepository
                 .findByUserIdOrderByCreatedAtDesc(userId, Pageable.ofSize(1)).getContent();
@@ -116,14 +120,17 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
         
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            unreadNotificationCounter.adjustAfterCommit(notification.getUser().getId(), -1);
+        }
         notification = notificationRepository.save(notification);
         
         return NotificationDto.Response.from(notification);
     }
     
     /**
-     * 사용자의 모든 알림 읽음 처리
+     * 사용자의 모든 알림 읽음 처리 (UPDATE 한 번으로 처리)
      */
     @Transactional
     public void markAllAsRead(Long userId) {
@@ -131,14 +138,10 @@ public class NotificationService {
             throw new ResourceNotFoundException("User", "id", userId);
         }
         
-        List<Notification> unreadNotifications = notificationRepository
-                .findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-                
-        for (Notification notification : unreadNotifications) {
-            notification.markAsRead();
-        }
+        int updated = notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        unreadNotificationCounter.adjustAfterCommit(userId, -updated);
         
-        notificationRepository.saveAll(unreadNotifications);
+        log.debug("모든 알림 읽음 처리: userId={}, 처리={}건", userId, updated);
     }
     
     /**
@@ -146,18 +149,21 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId) {
-        if (!notificationRepository.existsById(notificationId)) {
-            throw new ResourceNotFoundException("Notification", "id", notificationId);
-        }
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
         
-        notificationRepository.deleteById(notificationId);
+        if (!notification.isRead()) {
+            unreadNotificationCounter.adjustAfterCommit(notification.getUser().getId(), -1);
+        }
+        notificationRepository.delete(notification);
     }
     
     /**
      * 오늘 발송된 알림 수 조회
      */
     public long getTodayNotificationCount(Long userId) {
-        return notificationRepository.countTodayNotificationsByUserId(userId);
+        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        return notificationRepository.countTodayNotificationsByUserId(userId, todayStart, todayStart.plusDays(1));
     }
     
     /**
@@ -178,6 +184,7 @@ public class NotificationService {
                 .build();
         
         notificationRepository.save(notification);
+        unreadNotificationCounter.adjustAfterCommit(userId, 1);
         
         // 실시간 알림 전송 (WebSocket)
         sendRealtimeNotification(notification);
@@ -277,7 +277,7 @@ public class PortfolioService {
     /**
      * 공개 포트폴리오 목록 조회 (랭킹)
      */
-    @Cacheable(value = "publicPortfolios", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "publicPortfolios", keyGenerator = "canonicalKeyGenerator")
     public Page<Portfolio> getPublicPortfolios(Pageable pageable) {
         return portfolioRepository.findByIsPublicTrueOrderByTotalReturnPercentDesc(pageable);
     }
@@ -0,0 +1,358 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.PriceAlertDto;
+import com.coincommunity.backend.entity.PriceAlert;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 가격 알림 인메모리 인덱스
+ *
+ * 코인별로 이상(ABOVE)/이하(BELOW) 목표가를 정렬된 배열로 보관하고, 가격 틱이 들어오면
+ * 직전 가격과 현재 가격 사이를 지나간 목표가만 이진 탐색 + 구간 순회로 찾습니다 (O(log n + k)).
+ * - 상승 틱: 직전가 < 목표가 <= 현재가 인 ABOVE 알림
+ * - 하락 틱: 현재가 <= 목표가 < 직전가 인 BELOW 알림
+ * - 새로 등록된 알림과 직전 가격을 모르는 코인은 현재가 기준으로 조건 충족 여부를 확인
+ *
+ * 변동률 알림은 코인과 기준 구간별로 같은 구조에 목표 변동률을 보관하고, 구간 변동률 값의 틱으로 매칭합니다.
+ * (상승률: 변동률 >= 목표, 하락률: 변동률 <= -목표)
+ *
+ * 인덱스는 후보만 고르며, 최종 조건 확인과 상태 변경은 서비스에서 엔티티로 처리합니다.
+ * 재구성 중에 들어온 등록/제거는 따로 기록해 두었다가 DB 스냅샷을 반영한 뒤 다시 적용합니다.
+ */
+@Component
+public class PriceAlertIndex {
+
+    private final Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedAlert> alertsById = new ConcurrentHashMap<>();
+    // 재구성 중 변경 기록 (재구성 중이 아니면 null)
+    private volatile Map<Long, IndexedAlert> changesDuringRebuild;
+
+    /**
+     * 인덱스 대상 알림 여부 (대기 중이며 목표값이 있는 알림)
+     */
+    public static boolean isIndexable(PriceAlert alert) {
+        return alert.getStatus() == PriceAlertDto.AlertStatus.PENDING
+                && alert.getTargetPrice() != null
+                && alert.getAlertType() != null;
+    }
+
+    /**
+     * 알림 등록 (다음 틱에서 현재가 기준으로 한 번 확인한 뒤 정렬 배열에 합류)
+     */
+    public void add(PriceAlert alert) {
+        if (!isIndexable(alert)) {
+            return;
+        }
+        IndexedAlert indexed = IndexedAlert.of(alert);
+        IndexedAlert previous = alertsById.put(indexed.id, indexed);
+        if (previous != null) {
+            bookOf(previous.bookKey).remove(previous);
+        }
+        bookOf(indexed.bookKey).addFresh(indexed);
+        recordChange(indexed.id, indexed);
+    }
+
+    /**
+     * 알림 제거 (취소, 완료)
+     */
+    public void remove(Long alertId) {
+        IndexedAlert indexed = alertsById.remove(alertId);
+        if (indexed != null) {
+            bookOf(indexed.bookKey).remove(indexed);
+        }
+        recordChange(alertId, IndexedAlert.REMOVED);
+    }
+
+    /**
+     * 가격 틱 반영 후 조건을 충족한 이상/이하 알림 ID 목록 반환
+     */
+    public List<Long> match(String symbol, BigDecimal price) {
+        if (symbol == null || price == null) {
+            return List.of();
+        }
+        return matchBook(bookKey(normalize(symbol), null), price.doubleValue());
+    }
+
+    /**
+     * 구간 변동률 틱 반영 후 조건을 충족한 변동률 알림 ID 목록 반환
+     */
+    public List<Long> matchChange(String symbol, PriceAlertDto.ChangeWindow window, double changePercent) {
+        if (symbol == null || Double.isNaN(changePercent)) {
+            return List.of();
+        }
+        return matchBook(bookKey(normalize(symbol), window), changePercent);
+    }
+
+    /**
+     * DB의 대기 중 알림으로 인덱스 재구성
+     *
+     * 코인/지표별 직전 값은 유지하여 반복 알림이 재구성 때마다 다시 발동되지 않도록 하고,
+     * 일회성 알림은 현재가 기준으로 다시 확인하여 처리되지 못한 알림을 복구합니다.
+     * 스냅샷 조회부터 반영까지 사이에 등록/제거된 알림은 스냅샷 반영 후 다시 적용하므로 사라지지 않습니다.
+     *
+     * @param pendingAlerts 대기 중 알림 스냅샷 조회 (변경 기록을 시작한 뒤 호출)
+     */
+    public void rebuild(Supplier<? extends Collection<PriceAlert>> pendingAlerts) {
+        Map<Long, IndexedAlert> changes = new ConcurrentHashMap<>();
+        changesDuringRebuild = changes;
+        try {
+            applySnapshot(pendingAlerts.get());
+            // 스냅샷 이후 변경 재적용 (같은 알림은 마지막 변경만 남음)
+            changes.forEach(this::reapply);
+        } finally {
+            changesDuringRebuild = null;
+        }
+    }
+
+    private void recordChange(Long alertId, IndexedAlert change) {
+        Map<Long, IndexedAlert> changes = changesDuringRebuild;
+        if (changes != null) {
+            changes.put(alertId, change);
+        }
+    }
+
+    private void reapply(Long alertId, IndexedAlert change) {
+        IndexedAlert current = alertsById.get(alertId);
+        if (current != null) {
+            bookOf(current.bookKey).remove(current);
+        }
+        if (change == IndexedAlert.REMOVED) {
+            alertsById.remove(alertId);
+        } else {
+            alertsById.put(alertId, change);
+            bookOf(change.bookKey).addFresh(change);
+        }
+    }
+
+    private void applySnapshot(Collection<PriceAlert> pendingAlerts) {
+        Map<String, List<IndexedAlert>> byBook = new ConcurrentHashMap<>();
+        Map<Long, IndexedAlert> indexedById = new ConcurrentHashMap<>();
+        for (PriceAlert alert : pendingAlerts) {
+            if (isIndexable(alert)) {
+                IndexedAlert indexed = IndexedAlert.of(alert);
+                indexedById.put(indexed.id, indexed);
+                byBook.computeIfAbsent(indexed.bookKey, key -> new ArrayList<>()).add(indexed);
+            }
+        }
+
+        for (Map.Entry<String, SymbolBook> entry : books.entrySet()) {
+            if (!byBook.containsKey(entry.getKey())) {
+                entry.getValue().reset(List.of());
+            }
+        }
+        byBook.forEach((key, alerts) -> bookOf(key).reset(alerts));
+
+        alertsById.keySet().retainAll(indexedById.keySet());
+        alertsById.putAll(indexedById);
+    }
+
+    public int size() {
+        return alertsById.size();
+    }
+
+    private List<Long> matchBook(String bookKey, double value) {
+        SymbolBook book = books.get(bookKey);
+        return book != null ? book.match(value) : List.of();
+    }
+
+    private SymbolBook bookOf(String bookKey) {
+        return books.computeIfAbsent(bookKey, key -> new SymbolBook());
+    }
+
+    /**
+     * 코인 + 지표(가격 또는 변동률 구간)별 인덱스 키
+     */
+    private static String bookKey(String symbol, PriceAlertDto.ChangeWindow window) {
+        return symbol + ":" + (window != null ? window.name() : "PRICE");
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 인덱스에 보관하는 알림 정보
+     */
+    private static final class IndexedAlert {
+        // 재구성 중 제거 기록용 표식
+        private static final IndexedAlert REMOVED = new IndexedAlert(-1L, "", true, 0, false);
+
+        private final long id;
+        private final String bookKey;
+        private final boolean above;
+        private final double threshold;
+        private final boolean repeat;
+
+        private IndexedAlert(long id, String bookKey, boolean above, double threshold, boolean repeat) {
+            this.id = id;
+            this.bookKey = bookKey;
+            this.above = above;
+            this.threshold = threshold;
+            this.repeat = repeat;
+        }
+
+        private static IndexedAlert of(PriceAlert alert) {
+            String symbol = normalize(alert.getSymbol());
+            double target = alert.getTargetPrice().doubleValue();
+            switch (alert.getAlertType()) {
+                case PERCENT_CHANGE_UP:
+                    return new IndexedAlert(alert.getId(), bookKey(symbol, alert.resolveChangeWindow()),
+                            true, target, alert.isRepeat());
+                case PERCENT_CHANGE_DOWN:
+                    return new IndexedAlert(alert.getId(), bookKey(symbol, alert.resolveChangeWindow()),
+                            false, -target, alert.isRepeat());
+                default:
+                    return new IndexedAlert(alert.getId(), bookKey(symbol, null),
+                            alert.getAlertType() == PriceAlertDto.AlertType.ABOVE, target, alert.isRepeat());
+            }
+        }
+
+        private boolean isSatisfiedAt(double value) {
+            return above ? value >= threshold : value <= threshold;
+        }
+    }
+
+    /**
+     * 코인/지표별 목표값 인덱스 (가격 또는 구간 변동률)
+     */
+    private static final class SymbolBook {
+        private final SortedThresholds above = new SortedThresholds();
+        private final SortedThresholds below = new SortedThresholds();
+        private final List<IndexedAlert> fresh = new ArrayList<>();
+        private double lastValue = Double.NaN;
+
+        private synchronized void addFresh(IndexedAlert alert) {
+            fresh.add(alert);
+        }
+
+        private synchronized void remove(IndexedAlert alert) {
+            fresh.removeIf(candidate -> candidate.id == alert.id);
+            (alert.above ? above : below).remove(alert.threshold, alert.id);
+        }
+
+        private synchronized void reset(List<IndexedAlert> alerts) {
+            above.clear();
+            below.clear();
+            fresh.clear();
+            for (IndexedAlert alert : alerts) {
+                if (alert.repeat && !Double.isNaN(lastValue)) {
+                    (alert.above ? above : below).insert(alert.threshold, alert.id);
+                } else {
+                    fresh.add(alert);
+                }
+            }
+        }
+
+        private synchronized List<Long> match(double value) {
+            double previous = lastValue;
+            lastValue = value;
+            List<Long> matched = new ArrayList<>();
+
+            if (Double.isNaN(previous)) {
+                above.collect(0, above.upperBound(value), matched);
+                below.collect(below.lowerBound(value), below.size, matched);
+            } else if (value > previous) {
+                above.collect(above.upperBound(previous), above.upperBound(value), matched);
+            } else if (value < previous) {
+                below.collect(below.lowerBound(value), below.lowerBound(previous), matched);
+            }
+
+            // 새로 등록된 알림은 구간 탐색 이후에 합류시켜 같은 틱에서 중복 매칭되지 않도록 함
+            for (IndexedAlert alert : fresh) {
+                if (alert.isSatisfiedAt(value)) {
+                    matched.add(alert.id);
+                }
+                (alert.above ? above : below).insert(alert.threshold, alert.id);
+            }
+            fresh.clear();
+            return matched;
+        }
+    }
+
+    /**
+     * 목표가 오름차순으로 정렬된 (목표가, 알림 ID) 배열
+     */
+    private static final class SortedThresholds {
+        private double[] thresholds = new double[8];
+        private long[] ids = new long[8];
+        private int size;
+
+        /**
+         * value 이상인 첫 위치
+         */
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (thresholds[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * value 초과인 첫 위치
+         */
+        private int upperBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (thresholds[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void collect(int from, int to, List<Long> out) {
+            for (int i = from; i < to; i++) {
+                out.add(ids[i]);
+            }
+        }
+
+        private void insert(double threshold, long id) {
+            if (size == thresholds.length) {
+                thresholds = Arrays.copyOf(thresholds, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int position = upperBound(threshold);
+            System.arraycopy(thresholds, position, thresholds, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            thresholds[position] = threshold;
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(double threshold, long id) {
+            for (int i = lowerBound(threshold); i < size && thresholds[i] == threshold; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(thresholds, i + 1, thresholds, i, size - i - 1);
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
@@ -1,32 +1,41 @@
 package com.coincommunity.backend.service;
 
+import com.coincommunity.backend.dto.CoinPriceDto;
 import com.coincommunity.backend.dto.ExchangePriceDto;
 import com.coincommunity.backend.dto.PriceAlertDto;
 import com.coincommunity.backend.entity.PriceAlert;
 import com.coincommunity.backend.entity.User;
 import com.coincommunity.backend.repository.PriceAlertRepository;
 import com.coincommunity.backend.repository.UserRepository;
+import com.coincommunity.backend.util.ExpiringIdSet;
 import com.coincommunity.backend.websocket.Notification;
 import com.coincommunity.backend.websocket.NotificationWebSocketHandler;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * 가격 알림 서비스
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PriceAlertService {
 
@@ -34,9 +43,36 @@ public class PriceAlertService {
     private final UserRepository userRepository;
     private final ExchangePriceService exchangePriceService;
     private final NotificationWebSocketHandler notificationWebSocketHandler;
-
-    // 최근 처리된 알림 캐시 (중복 알림 방지)
-    private final Map<Long, LocalDateTime> recentlyProcessedAlerts = new ConcurrentHashMap<>();
+    private final PriceAlertIndex priceAlertIndex;
+    private final PriceWindowTracker priceWindowTracker;
+    private final TriggeredAlertSink triggeredAlertSink;
+
+    private final Executor notificationExecutor;
+
+    // 알림 판정 기준 거래소 (목표가는 원화 기준)
+    @Value("${price-alert.reference-exchange:UPBIT}")
+    private String referenceExchange;
+
+    // 최근 발동된 알림 (중복 알림 방지, 5분 후 만료)
+    private final ExpiringIdSet recentlyTriggeredAlerts = new ExpiringIdSet(Duration.ofMinutes(5), 10);
+
+    public PriceAlertService(PriceAlertRepository priceAlertRepository,
+                             UserRepository userRepository,
+                             ExchangePriceService exchangePriceService,
+                             NotificationWebSocketHandler notificationWebSocketHandler,
+                             PriceAlertIndex priceAlertIndex,
+                             PriceWindowTracker priceWindowTracker,
+                             TriggeredAlertSink triggeredAlertSink,
+                             @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.priceAlertRepository = priceAlertRepository;
+        this.userRepository = userRepository;
+        this.exchangePriceService = exchangePriceService;
+        this.notificationWebSocketHandler = notificationWebSocketHandler;
+        this.priceAlertIndex = priceAlertIndex;
+        this.priceWindowTracker = priceWindowTracker;
+        this.triggeredAlertSink = triggeredAlertSink;
+        this.notificationExecutor = notificationExecutor;
+    }
 
     /**
      * 가격 알림 생성
@@ -62,9 +98,19 @@ public class PriceAlertService {
                 .message(request.getMessage())
                 .status(PriceAlertDto.AlertStatus.PENDING)
                 .repeat(request.isRepeat())
+                .changeWindow(isPercentChange(request.getAlertType())
+                        ? (request.getChangeWindow() != null ? request.getChangeWindow() : PriceAlertDto.ChangeWindow.HOURS_24)
+                        : null)
                 .build();
 
         PriceAlert savedAlert = priceAlertRepository.save(priceAlert);
+        // 롤백된 알림이 인덱스에 남지 않도록 커밋 후 등록
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                priceAlertIndex.add(savedAlert);
+            }
+        });
 
         log.info("가격 알림 생성 완료 - ID: {}", savedAlert.getId());
 
@@ -118,113 +164,174 @@ public class PriceAlertService {
 
         priceAlert.updateStatus(PriceAlertDto.AlertStatus.CANCELLED);
         priceAlertRepository.save(priceAlert);
+        priceAlertIndex.remove(alertId);
 
         log.info("가격 알림 취소 완료 - ID: {}", alertId);
     }
 
     /**
-     * 가격 알림 처리 (스케줄러에서 호출)
+     * 가격 틱 반영 (가격 수집 직후 호출)
+     *
+     * 기준 거래소의 가격 변경분을 구간 가격 추적기와 인덱스에 반영하고, 목표가나 목표 변동률을 지나간
+     * 알림이 있으면 알림 처리(DB 갱신, 전송)는 알림 스레드 풀에서 수행하여 가격 수집을 지연시키지 않습니다.
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    public void processPriceAlerts() {
-        log.info("가격 알림 처리 시작");
-
-        try {
-            // 대기 중인 알림 조회
-            List<PriceAlert> pendingAlerts = priceAlertRepository.findByStatus(PriceAlertDto.AlertStatus.PENDING);
-
-            if (pendingAlerts.isEmpty()) {
-                log.info("처리할 가격 알림이 없습니다.");
-                return;
+    public void onPriceTicks(List<CoinPriceDto.RealtimeUpdate> updates) {
+        long now = System.currentTimeMillis();
+        Map<Long, BigDecimal> matched = new HashMap<>();
+        for (CoinPriceDto.RealtimeUpdate update : updates) {
+            if (!referenceExchange.equalsIgnoreCase(update.getExchange()) || update.getCurrentPrice() == null) {
+                continue;
             }
+            String symbol = update.getCoinId();
+            BigDecimal price = update.getCurrentPrice();
+            priceWindowTracker.record(symbol, price.doubleValue(), now);
 
-            log.info("처리할 가격 알림 수: {}", pendingAlerts.size());
-
-            // 코인별로 그룹화
-            Map<String, List<PriceAlert>> alertsBySymbol = pendingAlerts.stream()
-                    .collect(Collectors.groupingBy(PriceAlert::getSymbol));
-
-            // 각 코인별로 처리
-            for (Map.Entry<String, List<PriceAlert>> entry : alertsBySymbol.entrySet()) {
-                String symbol = entry.getKey();
-                List<PriceAlert> alerts = entry.getValue();
-
-                // 현재 가격 조회
-                List<ExchangePriceDto> prices = exchangePriceService.getExchangePrices(symbol);
-                if (prices.isEmpty()) {
-                    log.warn("코인 가격 정보를 찾을 수 없습니다: {}", symbol);
-                    continue;
-                }
-
-                ExchangePriceDto priceInfo = prices.get(0);
-
-                // 각 알림 처리 - 개별 트랜잭션으로 처리
-                for (PriceAlert alert : alerts) {
-                    try {
-                        processAlertWithTransaction(alert, priceInfo);
-                    } catch (Exception e) {
-                        log.error("개별 알림 처리 중 오류 발생 - alertId: {}, symbol: {}", alert.getId(), alert.getSymbol(), e);
-                        // 개별 알림 오류는 다른 알림 처리에 영향을 주지 않도록 함
-                    }
+            for (Long alertId : priceAlertIndex.match(symbol, price)) {
+                matched.put(alertId, price);
+            }
+            for (PriceAlertDto.ChangeWindow window : PriceAlertDto.ChangeWindow.values()) {
+                double changePercent = priceWindowTracker.changePercent(symbol, window);
+                for (Long alertId : priceAlertIndex.matchChange(symbol, window, changePercent)) {
+                    matched.put(alertId, price);
                 }
             }
-
-            log.info("가격 알림 처리 완료");
-        } catch (Exception e) {
-            log.error("가격 알림 처리 중 오류 발생", e);
         }
+        if (matched.isEmpty()) {
+            return;
+        }
+
+        log.debug("가격 알림 조건 충족 후보: {}건", matched.size());
+        notificationExecutor.execute(() -> triggerAlerts(matched));
     }
 
     /**
-     * 개별 알림 처리 (트랜잭션 분리)
+     * 인덱스가 고른 알림 처리
+     *
+     * 한 번의 평가 패스에서 발동된 알림의 상태 변경을 모아 일괄 저장한 뒤 알림을 전송합니다.
+     * 저장에 실패하면 알림을 보내지 않으며, 대기 상태로 남은 알림은 인덱스 재구성 때 다시 확인됩니다.
      */
-    @Transactional
-    public void processAlertWithTransaction(PriceAlert alert, ExchangePriceDto priceInfo) {
-        // 최근에 처리된 알림인지 확인 (5분 이내)
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime recentlyProcessed = recentlyProcessedAlerts.get(alert.getId());
-        if (recentlyProcessed != null && recentlyProcessed.plusMinutes(5).isAfter(now)) {
+    private void triggerAlerts(Map<Long, BigDecimal> pricesByAlertId) {
+        long now = System.currentTimeMillis();
+        TriggeredAlertSink.Batch batch = triggeredAlertSink.newBatch(LocalDateTime.now());
+        Map<PriceAlert, String> messages = new LinkedHashMap<>();
+
+        for (PriceAlert alert : priceAlertRepository.findAllById(pricesByAlertId.keySet())) {
+            if (alert.getStatus() != PriceAlertDto.AlertStatus.PENDING) {
+                priceAlertIndex.remove(alert.getId());
+                continue;
+            }
+            // 최근에 발동된 알림인지 확인 (5분 이내)
+            if (recentlyTriggeredAlerts.contains(alert.getId(), now)) {
+                continue;
+            }
+            try {
+                BigDecimal currentPrice = pricesByAlertId.get(alert.getId());
+                String message = evaluateAlert(alert, currentPrice);
+                if (message != null) {
+                    alert.updateLastTriggeredAt(batch.getTriggeredAt());
+                    batch.record(alert.getId(), alert.isRepeat()
+                            ? PriceAlertDto.AlertStatus.PENDING
+                            : PriceAlertDto.AlertStatus.COMPLETED, currentPrice);
+                    messages.put(alert, message);
+                }
+            } catch (Exception e) {
+                log.error("개별 알림 처리 중 오류 발생 - alertId: {}, symbol: {}", alert.getId(), alert.getSymbol(), e);
+                // 개별 알림 오류는 다른 알림 처리에 영향을 주지 않도록 함
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<Long> updatedIds;
+        try {
+            updatedIds = triggeredAlertSink.flush(batch);
+        } catch (Exception e) {
+            log.error("발동된 가격 알림 저장 실패 - {}건", batch.size(), e);
             return;
         }
 
-        // 현재 가격 업데이트
-        alert.updateCurrentPrice(priceInfo.getCurrentPrice());
-
-        // 알림 조건 확인
-        if (alert.checkAlertCondition()) {
-            // 알림 상태 업데이트
-            alert.updateStatus(PriceAlertDto.AlertStatus.TRIGGERED);
-            priceAlertRepository.save(alert);
-
-            // 알림 메시지 생성
-            String message = alert.getMessage();
-            if (message == null || message.isEmpty()) {
-                message = String.format("%s 가격이 %s원에 %s 조건을 충족했습니다.", 
-                        alert.getSymbol(), 
-                        priceInfo.getCurrentPrice(), 
-                        alert.getAlertType().getDisplayName());
+        for (Map.Entry<PriceAlert, String> entry : messages.entrySet()) {
+            PriceAlert alert = entry.getKey();
+            if (!updatedIds.contains(alert.getId())) {
+                // 조회 이후 취소되었거나 다른 노드가 이미 완료한 알림
+                priceAlertIndex.remove(alert.getId());
+                continue;
+            }
+            recentlyTriggeredAlerts.add(alert.getId(), now);
+            if (!alert.isRepeat()) {
+                priceAlertIndex.remove(alert.getId());
             }
 
             // 웹소켓으로 알림 전송
-            sendAlert(alert.getUser().getId(), message, alert);
-
-            // 최근 처리된 알림으로 기록
-            recentlyProcessedAlerts.put(alert.getId(), now);
+            sendAlert(alert.getUserId(), entry.getValue(), alert);
 
             log.info("가격 알림 트리거됨 - ID: {}, 사용자: {}, 코인: {}, 타입: {}, 가격: {}",
-                    alert.getId(), alert.getUser().getId(), alert.getSymbol(),
-                    alert.getAlertType(), priceInfo.getCurrentPrice());
+                    alert.getId(), alert.getUserId(), alert.getSymbol(),
+                    alert.getAlertType(), alert.getCurrentPrice());
+        }
+    }
 
-            // 반복 알림이 아니면 완료 상태로 변경
-            if (!alert.isRepeat()) {
-                alert.updateStatus(PriceAlertDto.AlertStatus.COMPLETED);
-                priceAlertRepository.save(alert);
-            } else {
-                // 반복 알림은 다시 PENDING 상태로
-                alert.updateStatus(PriceAlertDto.AlertStatus.PENDING);
-                priceAlertRepository.save(alert);
-            }
+    /**
+     * 가격 알림 인덱스 재구성 (스케줄러에서 호출)
+     *
+     * 알림 발동은 가격 틱마다 인덱스에서 처리하며, 여기서는 다른 노드에서 생성/취소된 알림이나
+     * 처리에 실패한 알림을 반영하기 위해 DB 기준으로 인덱스를 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${price-alert.reconcile-interval-ms:600000}")
+    public void processPriceAlerts() {
+        try {
+            List<PriceAlert> pendingAlerts = new ArrayList<>();
+            priceAlertIndex.rebuild(() -> {
+                pendingAlerts.addAll(priceAlertRepository.findByStatus(PriceAlertDto.AlertStatus.PENDING));
+                return pendingAlerts;
+            });
+            log.info("가격 알림 인덱스 재구성 완료 - 대기 알림: {}건, 인덱스: {}건", pendingAlerts.size(), priceAlertIndex.size());
+        } catch (Exception e) {
+            log.error("가격 알림 인덱스 재구성 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 개별 알림 조건 확인
+     *
+     * @return 조건을 충족하면 알림 메시지, 아니면 null
+     */
+    private String evaluateAlert(PriceAlert alert, BigDecimal currentPrice) {
+        // 현재 가격 업데이트 (저장은 일괄 처리)
+        alert.updateCurrentPrice(currentPrice);
+
+        // 알림 조건 확인 (변동률 알림은 기준 구간의 변동률로 확인)
+        BigDecimal changePercent = null;
+        if (alert.isPercentChangeAlert()) {
+            double change = priceWindowTracker.changePercent(alert.getSymbol(), alert.resolveChangeWindow());
+            changePercent = Double.isNaN(change) ? null : BigDecimal.valueOf(change);
         }
+        if (!alert.checkAlertCondition(changePercent)) {
+            return null;
+        }
+
+        // 알림 메시지 생성
+        String message = alert.getMessage();
+        if ((message == null || message.isEmpty()) && changePercent != null) {
+            message = String.format("%s 가격이 %s 동안 %.2f%% 변동하여 %s %s%% 조건을 충족했습니다.",
+                    alert.getSymbol(),
+                    alert.resolveChangeWindow().getDisplayName(),
+                    changePercent.doubleValue(),
+                    alert.getAlertType().getDisplayName(),
+                    alert.getTargetPrice().stripTrailingZeros().toPlainString());
+        } else if (message == null || message.isEmpty()) {
+            message = String.format("%s 가격이 %s원에 %s 조건을 충족했습니다.", 
+                    alert.getSymbol(), 
+                    currentPrice, 
+                    alert.getAlertType().getDisplayName());
+        }
+        return message;
+    }
+
+    private boolean isPercentChange(PriceAlertDto.AlertType alertType) {
+        return alertType == PriceAlertDto.AlertType.PERCENT_CHANGE_UP
+                || alertType == PriceAlertDto.AlertType.PERCENT_CHANGE_DOWN;
     }
 
     /**
@@ -241,6 +348,7 @@ public class PriceAlertService {
                 .message(priceAlert.getMessage())
                 .status(priceAlert.getStatus())
                 .repeat(priceAlert.isRepeat())
+                .changeWindow(priceAlert.getChangeWindow())
                 .createdAt(priceAlert.getCreatedAt())
                 .lastTriggeredAt(priceAlert.getLastTriggeredAt())
                 .build();
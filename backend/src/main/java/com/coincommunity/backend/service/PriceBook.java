@@ -0,0 +1,137 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.coincommunity.backend.entity.CoinPrice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래소별 최신 코인 가격을 보관하는 인메모리 가격표
+ *
+ * 스케줄러가 수집한 가격, 다른 노드가 백플레인으로 발행한 가격, 기동 시 DB에서 복원한 가격을 동일한 형태로 유지하여
+ * 캐시 워밍업과 실시간 전송이 같은 스냅샷을 바라보도록 합니다.
+ */
+@Slf4j
+@Component
+public class PriceBook {
+
+    private final Map<String, CoinPriceDto.RealtimeUpdate> prices = new ConcurrentHashMap<>();
+
+    /**
+     * 가격표 키 생성 (코인ID-거래소)
+     */
+    public static String key(String coinId, String exchange) {
+        return coinId + "-" + exchange;
+    }
+
+    /**
+     * 단일 코인 가격 반영
+     */
+    public void put(CoinPrice coinPrice) {
+        if (coinPrice == null || coinPrice.getCoinId() == null || coinPrice.getExchange() == null) {
+            return;
+        }
+        prices.put(key(coinPrice.getCoinId(), coinPrice.getExchange()), toUpdate(coinPrice));
+    }
+
+    /**
+     * 여러 코인 가격 일괄 반영
+     */
+    public void putAll(Collection<CoinPrice> coinPrices) {
+        coinPrices.forEach(this::put);
+        log.debug("가격표 갱신: {}개 반영, 전체 {}개", coinPrices.size(), prices.size());
+    }
+
+    /**
+     * 여러 코인 가격을 반영하고, 이전 값과 비교해 가격 또는 변동률이 바뀐 항목만 반환
+     * (신규 항목 포함, 실시간 전송 대상 선정용)
+     */
+    public List<CoinPriceDto.RealtimeUpdate> putAllChanged(Collection<CoinPrice> coinPrices) {
+        List<CoinPriceDto.RealtimeUpdate> changed = new ArrayList<>();
+        for (CoinPrice coinPrice : coinPrices) {
+            if (coinPrice == null || coinPrice.getCoinId() == null || coinPrice.getExchange() == null) {
+                continue;
+            }
+            CoinPriceDto.RealtimeUpdate update = toUpdate(coinPrice);
+            CoinPriceDto.RealtimeUpdate previous = prices.put(key(coinPrice.getCoinId(), coinPrice.getExchange()), update);
+            if (previous == null || isChanged(previous, update)) {
+                changed.add(update);
+            }
+        }
+        log.debug("가격표 갱신: {}개 반영, 변경 {}개, 전체 {}개", coinPrices.size(), changed.size(), prices.size());
+        return changed;
+    }
+
+    /**
+     * 다른 노드가 백플레인으로 발행한 가격 업데이트 반영
+     * 이미 더 최신 시각의 값이 있으면 유지하여 늦게 도착한 메시지가 가격표를 되돌리지 않도록 합니다.
+     */
+    public void applyUpdates(Collection<CoinPriceDto.RealtimeUpdate> updates) {
+        for (CoinPriceDto.RealtimeUpdate update : updates) {
+            if (update == null || update.getCoinId() == null || update.getExchange() == null) {
+                continue;
+            }
+            prices.merge(key(update.getCoinId(), update.getExchange()), update,
+                    (current, incoming) -> isOlder(incoming, current) ? current : incoming);
+        }
+    }
+
+    /**
+     * 특정 코인/거래소의 최신 가격 조회
+     */
+    public Optional<CoinPriceDto.RealtimeUpdate> get(String coinId, String exchange) {
+        return Optional.ofNullable(prices.get(key(coinId, exchange)));
+    }
+
+    /**
+     * 현재 가격표 전체 스냅샷
+     */
+    public List<CoinPriceDto.RealtimeUpdate> snapshot() {
+        return new ArrayList<>(prices.values());
+    }
+
+    public int size() {
+        return prices.size();
+    }
+
+    public boolean isEmpty() {
+        return prices.isEmpty();
+    }
+
+    private boolean isChanged(CoinPriceDto.RealtimeUpdate previous, CoinPriceDto.RealtimeUpdate current) {
+        return !sameValue(previous.getCurrentPrice(), current.getCurrentPrice())
+                || !sameValue(previous.getPriceChangePercent(), current.getPriceChangePercent());
+    }
+
+    private boolean isOlder(CoinPriceDto.RealtimeUpdate candidate, CoinPriceDto.RealtimeUpdate current) {
+        return candidate.getTimestamp() != null && current.getTimestamp() != null
+                && candidate.getTimestamp().isBefore(current.getTimestamp());
+    }
+
+    private boolean sameValue(BigDecimal a, BigDecimal b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.compareTo(b) == 0;
+    }
+
+    private CoinPriceDto.RealtimeUpdate toUpdate(CoinPrice coinPrice) {
+        return new CoinPriceDto.RealtimeUpdate(
+                coinPrice.getCoinId(),
+                coinPrice.getKoreanName(),
+                coinPrice.getEnglishName(),
+                coinPrice.getCurrentPrice(),
+                coinPrice.getPriceChangePercent(),
+                coinPrice.getExchange(),
+                coinPrice.getLastUpdated()
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.coincommunity.backend.websocket.PriceDeltaStream;
+import com.coincommunity.backend.websocket.PriceFrameBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Server-Sent Events 가격 스트림 서비스
+ *
+ * WebSocket 가격 프레임과 같은 델타 배치를 받아 SSE 구독자에게 전달합니다.
+ * - 배치마다 구독 필터(심볼/거래소)별로 한 번만 직렬화하여 같은 필터의 구독자끼리 공유
+ * - 이벤트 ID는 "스트림ID:시퀀스"이며, Last-Event-ID로 재연결하면 이후 배치만 전달
+ * - 이력이 남아 있지 않으면 구독 범위의 스냅샷부터 전달
+ * - 처리 속도가 느린 구독자는 버퍼 초과 시 스트림을 종료하고, 클라이언트는 Last-Event-ID로 재연결
+ * - 연결 유지 시간은 전역 MVC 비동기 타임아웃이 아닌 이 스트림의 최대 연결 시간으로 제한
+ */
+@Slf4j
+@Service
+public class PriceSseService {
+
+    private final PriceDeltaStream priceDeltaStream;
+    private final PriceBook priceBook;
+    private final PriceFrameBuilder priceFrameBuilder;
+    private final Sinks.Many<BatchFrames> sink;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter overflowCounter;
+
+    @Value("${sse.price-stream.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${sse.price-stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${sse.price-stream.max-connection-minutes:30}")
+    private long maxConnectionMinutes;
+
+    public PriceSseService(PriceDeltaStream priceDeltaStream,
+                           PriceBook priceBook,
+                           PriceFrameBuilder priceFrameBuilder,
+                           MeterRegistry meterRegistry,
+                           @Value("${websocket.price-stream.history-size:120}") int historySize) {
+        this.priceDeltaStream = priceDeltaStream;
+        this.priceBook = priceBook;
+        this.priceFrameBuilder = priceFrameBuilder;
+        // 델타 스트림 이력과 같은 수의 배치를 보관하여 재연결 구독자에게 재생
+        this.sink = Sinks.many().replay().limit(historySize);
+
+        this.overflowCounter = Counter.builder("sse.price-stream.overflows")
+                .description("버퍼 초과로 종료된 SSE 구독 수").register(meterRegistry);
+        Gauge.builder("sse.price-stream.subscribers", subscribers, AtomicInteger::get)
+                .description("SSE 가격 스트림 구독자 수").register(meterRegistry);
+    }
+
+    /**
+     * 델타 배치 발행 (가격 프레임 스케줄러에서 스트림 잠금 밖에서 호출, 구독자 쓰기는 MVC 비동기 실행기에서 수행)
+     */
+    public void publish(PriceDeltaStream.DeltaBatch batch) {
+        Sinks.EmitResult result = sink.tryEmitNext(new BatchFrames(batch));
+        if (result.isFailure()) {
+            log.warn("SSE 가격 배치 발행 실패: seq={}, 결과={}", batch.getSequence(), result);
+        }
+    }
+
+    /**
+     * 가격 스트림 구독
+     *
+     * @param symbols     수신할 심볼 (비어 있으면 전체)
+     * @param exchanges   수신할 거래소 (비어 있으면 전체)
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID
+     */
+    public Flux<ServerSentEvent<String>> stream(Collection<String> symbols, Collection<String> exchanges, String lastEventId) {
+        SymbolFilter filter = new SymbolFilter(normalize(symbols), normalize(exchanges));
+
+        return Flux.defer(() -> {
+            Long since = parseSequence(lastEventId);
+            boolean resumable = since != null
+                    && priceDeltaStream.changesSince(priceDeltaStream.getStreamId(), since).isPresent();
+            long resumeFrom = resumable ? since : priceDeltaStream.currentSequence();
+
+            Flux<ServerSentEvent<String>> head = resumable
+                    ? Flux.empty()
+                    : Flux.just(snapshotEvent(filter, resumeFrom));
+
+            Flux<ServerSentEvent<String>> live = sink.asFlux()
+                    .filter(frames -> frames.batch.getSequence() > resumeFrom)
+                    .mapNotNull(frames -> frames.eventFor(filter))
+                    .onBackpressureBuffer(bufferSize, dropped -> overflowCounter.increment(), BufferOverflowStrategy.ERROR);
+
+            // 주기적인 주석 이벤트로 프록시 유휴 타임아웃을 막고 끊어진 연결을 쓰기 실패로 감지
+            Flux<ServerSentEvent<String>> heartbeat = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+                    .map(tick -> ServerSentEvent.<String>builder().comment("keepalive").build());
+
+            return Flux.concat(head, live)
+                    .mergeWith(heartbeat)
+                    // 연결 유지 시간이 지나면 정상 종료하여 클라이언트가 Last-Event-ID로 재연결하도록 함
+                    .take(Duration.ofMinutes(maxConnectionMinutes))
+                    // 버퍼 초과 시 정상 종료하여 클라이언트가 Last-Event-ID로 재연결하도록 함
+                    .onErrorResume(Exceptions::isOverflow, e -> Flux.empty())
+                    .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                    .doFinally(signal -> subscribers.decrementAndGet());
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    private ServerSentEvent<String> snapshotEvent(SymbolFilter filter, long sequence) {
+        List<CoinPriceDto.PriceDelta> snapshot = priceBook.snapshot().stream()
+                .filter(update -> filter.matches(update.getCoinId(), update.getExchange()))
+                .map(CoinPriceDto.PriceDelta::full)
+                .collect(Collectors.toList());
+        return event(PriceFrameBuilder.SNAPSHOT, sequence, priceFrameBuilder.encodeTextBody(snapshot));
+    }
+
+    private ServerSentEvent<String> event(String type, long sequence, String body) {
+        return ServerSentEvent.<String>builder()
+                .id(priceDeltaStream.getStreamId() + ":" + sequence)
+                .event(type)
+                .data(body)
+                .build();
+    }
+
+    /**
+     * 현재 스트림의 이벤트 ID에서 시퀀스 추출 (다른 스트림이거나 형식이 잘못되면 null)
+     */
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        int separator = lastEventId.lastIndexOf(':');
+        if (separator < 0 || !priceDeltaStream.getStreamId().equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Set<String> normalize(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> value.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 구독 필터 (같은 필터의 구독자는 직렬화된 이벤트를 공유)
+     */
+    @EqualsAndHashCode
+    private static final class SymbolFilter {
+        private final Set<String> symbols;
+        private final Set<String> exchanges;
+
+        private SymbolFilter(Set<String> symbols, Set<String> exchanges) {
+            this.symbols = symbols;
+            this.exchanges = exchanges;
+        }
+
+        private boolean matches(String coinId, String exchange) {
+            return (symbols.isEmpty() || (coinId != null && symbols.contains(coinId.toUpperCase(Locale.ROOT))))
+                    && (exchanges.isEmpty() || (exchange != null && exchanges.contains(exchange.toUpperCase(Locale.ROOT))));
+        }
+    }
+
+    /**
+     * 델타 배치와 필터별 직렬화 결과
+     */
+    private final class BatchFrames {
+        private final PriceDeltaStream.DeltaBatch batch;
+        private final Map<SymbolFilter, Optional<ServerSentEvent<String>>> events = new ConcurrentHashMap<>();
+
+        private BatchFrames(PriceDeltaStream.DeltaBatch batch) {
+            this.batch = batch;
+        }
+
+        private ServerSentEvent<String> eventFor(SymbolFilter filter) {
+            return events.computeIfAbsent(filter, key -> {
+                List<CoinPriceDto.PriceDelta> matching = batch.getDeltas().stream()
+                        .filter(delta -> key.matches(delta.getCoinId(), delta.getExchange()))
+                        .collect(Collectors.toList());
+                return matching.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(event(PriceFrameBuilder.DELTA, batch.getSequence(), priceFrameBuilder.encodeTextBody(matching)));
+            }).orElse(null);
+        }
+    }
+}
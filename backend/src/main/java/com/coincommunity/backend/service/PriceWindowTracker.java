@@ -0,0 +1,151 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.PriceAlertDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코인별 구간 기준 가격 추적기
+ *
+ * 변동률 알림의 구간(5분/1시간/24시간)마다 고정 크기 링 버퍼를 두고, 시간을 일정 간격의 버킷으로 나눠
+ * 버킷별 마지막 가격을 기록합니다. 틱이 없던 버킷은 직전 가격으로 채우므로 링의 가장 오래된 칸이 곧
+ * 구간 길이 이전 시점의 가격이 되어, 구간 변동률을 이력 조회 없이 상수 시간에 계산합니다.
+ * 기동 직후처럼 이력이 구간보다 짧으면 가장 오래된 가격을 기준으로 합니다.
+ */
+@Component
+public class PriceWindowTracker {
+
+    private final Map<String, SymbolWindows> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 가격 틱 기록
+     */
+    public void record(String symbol, double price, long timestampMillis) {
+        if (symbol == null || !(price > 0)) {
+            return;
+        }
+        windows.computeIfAbsent(normalize(symbol), key -> new SymbolWindows())
+                .record(price, timestampMillis);
+    }
+
+    /**
+     * 마지막으로 기록한 가격의 구간 변동률(%) (기록이 없으면 NaN)
+     */
+    public double changePercent(String symbol, PriceAlertDto.ChangeWindow window) {
+        if (symbol == null) {
+            return Double.NaN;
+        }
+        SymbolWindows symbolWindows = windows.get(normalize(symbol));
+        return symbolWindows != null ? symbolWindows.changePercent(window) : Double.NaN;
+    }
+
+    public int getSymbolCount() {
+        return windows.size();
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 구간별 버킷 수 (버킷 간격 = 구간 길이 / 버킷 수)
+     */
+    private static int slotsOf(PriceAlertDto.ChangeWindow window) {
+        switch (window) {
+            case MINUTES_5:
+                return 5;    // 1분 간격
+            case HOUR_1:
+                return 60;   // 1분 간격
+            default:
+                return 96;   // 15분 간격
+        }
+    }
+
+    /**
+     * 한 코인의 구간별 링 버퍼
+     */
+    private static final class SymbolWindows {
+        private final PriceRing[] rings;
+        private double lastPrice = Double.NaN;
+
+        private SymbolWindows() {
+            PriceAlertDto.ChangeWindow[] values = PriceAlertDto.ChangeWindow.values();
+            rings = new PriceRing[values.length];
+            for (PriceAlertDto.ChangeWindow window : values) {
+                // 버킷 값은 버킷의 마지막 가격이므로, 구간 시작 시점이 속한 버킷의 직전 버킷까지 담도록 두 칸을 더 둠
+                // (현재 버킷 + 구간 버킷 수 + 1 → 기준 가격은 구간 길이 이상, 버킷 하나 미만만큼 더 오래됨)
+                rings[window.ordinal()] = new PriceRing(slotsOf(window) + 2,
+                        window.getDuration().toMillis() / slotsOf(window));
+            }
+        }
+
+        private synchronized void record(double price, long timestampMillis) {
+            for (PriceRing ring : rings) {
+                ring.record(price, timestampMillis);
+            }
+            lastPrice = price;
+        }
+
+        private synchronized double changePercent(PriceAlertDto.ChangeWindow window) {
+            double reference = rings[window.ordinal()].reference();
+            if (Double.isNaN(lastPrice) || !(reference > 0)) {
+                return Double.NaN;
+            }
+            return (lastPrice - reference) / reference * 100.0;
+        }
+    }
+
+    /**
+     * 버킷별 마지막 가격을 담는 링 버퍼
+     */
+    private static final class PriceRing {
+        private final double[] prices;
+        private final long bucketMillis;
+        private long currentBucket = -1;
+        private long firstBucket = -1;
+
+        private PriceRing(int slots, long bucketMillis) {
+            this.prices = new double[slots];
+            this.bucketMillis = bucketMillis;
+            Arrays.fill(prices, Double.NaN);
+        }
+
+        private void record(double price, long timestampMillis) {
+            long bucket = timestampMillis / bucketMillis;
+            if (currentBucket < 0) {
+                firstBucket = bucket;
+            } else if (bucket > currentBucket) {
+                // 틱이 없던 버킷을 직전 가격으로 채움 (한 바퀴를 넘게 비었으면 전체를 채우면 충분)
+                double carried = prices[slot(currentBucket)];
+                long gap = Math.min(bucket - currentBucket - 1, prices.length);
+                for (long i = 1; i <= gap; i++) {
+                    prices[slot(currentBucket + i)] = carried;
+                }
+            } else if (bucket < currentBucket) {
+                // 시계가 뒤로 간 틱은 현재 버킷에 반영
+                bucket = currentBucket;
+            }
+            currentBucket = bucket;
+            prices[slot(bucket)] = price;
+        }
+
+        /**
+         * 구간 길이만큼 이전 버킷의 가격 (이력이 짧으면 가장 오래된 가격)
+         */
+        private double reference() {
+            if (currentBucket < 0) {
+                return Double.NaN;
+            }
+            long oldest = Math.max(currentBucket - prices.length + 1, firstBucket);
+            return prices[slot(oldest)];
+        }
+
+        private int slot(long bucket) {
+            return (int) (bucket % prices.length);
+        }
+    }
+}
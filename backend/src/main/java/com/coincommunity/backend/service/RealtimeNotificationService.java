@@ -3,33 +3,38 @@ package com.coincommunity.backend.service;
 import com.coincommunity.backend.dto.NotificationDto;
 import com.coincommunity.backend.dto.WebSocketDto;
 import com.coincommunity.backend.entity.Notification;
-import com.coincommunity.backend.entity.NotificationPreference;
 import com.coincommunity.backend.entity.Transaction;
 import com.coincommunity.backend.entity.PortfolioItem;
 import com.coincommunity.backend.entity.CoinPrice;
 import com.coincommunity.backend.entity.User;
 import com.coincommunity.backend.repository.CoinWatchlistRepository;
-import com.coincommunity.backend.repository.NotificationPreferenceRepository;
+import com.coincommunity.backend.repository.NotificationOutboxRepository;
 import com.coincommunity.backend.repository.NotificationRepository;
 import com.coincommunity.backend.repository.UserRepository;
-import com.coincommunity.backend.exception.ResourceNotFoundException;
+import com.coincommunity.backend.util.DigestAggregator;
+import com.coincommunity.backend.websocket.ClusterMessagingTemplate;
 import com.coincommunity.backend.websocket.NotificationWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -67,8 +72,12 @@ public class RealtimeNotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final CoinWatchlistRepository coinWatchlistRepository;
-    private final NotificationPreferenceRepository notificationPreferenceRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationPreferenceSnapshot notificationPreferenceSnapshot;
+    private final ClusterMessagingTemplate messagingTemplate;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationQuotaService notificationQuotaService;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.notification.price-threshold:5.0}")
     private BigDecimal priceChangeThreshold;
@@ -76,17 +85,32 @@ public class RealtimeNotificationService {
     @Value("${app.notification.batch-size:1000}")
     private int batchSize;
 
-    @Value("${app.notification.max-daily-notifications:50}")
-    private int maxDailyNotifications;
+    @Value("${notification.digest.window-ms:30000}")
+    private long digestWindowMs;
+
+    @Value("${notification.digest.max-items:20}")
+    private int digestMaxItems;
+
+    @Value("${notification.digest.summary-items:5}")
+    private int digestSummaryItems;
+
+    /**
+     * 사용자별 가격 변동 묶음 (창이 닫히면 flushPriceDigests가 한 건으로 기록)
+     */
+    private DigestAggregator<Long, PriceMove> priceDigest;
+
+    @PostConstruct
+    void initDigest() {
+        this.priceDigest = new DigestAggregator<>(digestWindowMs, digestMaxItems);
+    }
 
     /**
      * 알림 생성 (NotificationService에서 분리된 메서드)
+     * 사용자 엔티티는 FK 연결에만 쓰므로 조회 없이 참조만 사용
      */
-    @Transactional
     private NotificationDto.Response createNotification(NotificationDto.CreateRequest request) {
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
-        
+        User user = userRepository.getReferenceById(request.getUserId());
+
         Notification notification = Notification.builder()
                 .user(user)
                 .title(request.getTitle())
@@ -97,6 +121,8 @@ public class RealtimeNotificationService {
                 .build();
         
         notification = notificationRepository.save(notification);
+        notificationQuotaService.record(request.getUserId());
+        unreadNotificationCounter.adjustAfterCommit(request.getUserId(), 1);
         
         return NotificationDto.Response.from(notification);
     }
@@ -193,8 +219,9 @@ public class RealtimeNotificationService {
                     .findUserIdsByCoinId(coinPrice.getCoinId());
 
             if (!watchlistUserIds.isEmpty()) {
-                // 배치로 처리하여 성능 최적화
-                processCoinPriceAlertsInBatches(watchlistUserIds, coinPrice);
+                // 바로 기록하지 않고 사용자별 묶음 창에 넣음 (같은 코인은 최신 가격으로 합쳐짐)
+                priceDigest.addAll(watchlistUserIds, coinPrice.getCoinId(),
+                        new PriceMove(coinPrice), System.currentTimeMillis());
             }
 
             log.debug("코인 가격 알림 처리 완료: 코인={}, 대상사용자={}명", 
@@ -264,14 +291,10 @@ public class RealtimeNotificationService {
      */
     private void sendBroadcastToActiveSessions(WebSocketDto.Notification notification) {
         try {
-            // WebSocket 핸들러를 통한 직접 브로드캐스트
-            if (notificationWebSocketHandler.getConnectedUserCount() > 0) {
-                notificationWebSocketHandler.broadcastNotification(notification);
-                log.debug("WebSocket 직접 브로드캐스트 완료: 연결된사용자={}명", 
-                        notificationWebSocketHandler.getConnectedUserCount());
-            } else {
-                log.debug("연결된 WebSocket 사용자 없음, 브로드캐스트 스킵");
-            }
+            // WebSocket 핸들러를 통한 직접 브로드캐스트 (다른 노드의 연결도 있으므로 로컬 연결 수와 무관하게 발행)
+            notificationWebSocketHandler.broadcastNotification(notification);
+            log.debug("WebSocket 직접 브로드캐스트 발행 완료: 현재 노드 연결 사용자={}명", 
+                    notificationWebSocketHandler.getConnectedUserCount());
             
         } catch (Exception e) {
             log.warn("활성 세션 브로드캐스트 실패", e);
@@ -347,179 +370,154 @@ public class RealtimeNotificationService {
     }
 
     /**
-     * 실시간 알림 전송 (WebSocket)
-     * 30년차 베테랑 개발자 품질의 재연결 로직 포함
+     * 실시간 알림 전송 예약
+     * 알림과 같은 트랜잭션에서 Outbox에 기록하고, 실제 전달과 재시도는 NotificationOutboxDispatcher가 담당
      */
     private void sendRealtimeNotification(Long userId, NotificationDto.Response notification) {
-        try {
-            // 사용자별 알림 설정 확인
-            if (!isNotificationEnabled(userId, notification.getType())) {
-                log.debug("사용자 알림 설정으로 인해 전송 스킵: 사용자ID={}, 타입={}", userId, notification.getType());
-                return;
-            }
+        // 사용자별 알림 설정 확인
+        if (!notificationPreferenceSnapshot.isEnabled(userId, notification.getType())) {
+            log.debug("사용자 알림 설정으로 인해 전송 스킵: 사용자ID={}, 타입={}", userId, notification.getType());
+            return;
+        }
 
-            // WebSocket 알림 데이터 생성
-            WebSocketDto.Notification wsNotification = WebSocketDto.Notification.builder()
-                    .id(notification.getId())
-                    .userId(userId)
-                    .type(notification.getType())
-                    .title(notification.getTitle())
-                    .message(notification.getMessage())
-                    .read(notification.isRead())
-                    .relatedId(notification.getResourceId())
-                    .createdAt(notification.getCreatedAt())
-                    .build();
+        NotificationDto.CreateRequest outboxRequest = NotificationDto.CreateRequest.builder()
+                .userId(userId)
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .resourceId(notification.getResourceId())
+                .build();
+        notificationOutboxRepository.enqueue(notification.getId(), outboxRequest, LocalDateTime.now());
 
-            // WebSocket 핸들러를 통한 실시간 전송 (재연결 로직 포함)
-            sendWebSocketNotificationWithRetry(userId, wsNotification, 0);
-            
-            // 전송 통계 업데이트
-            updateNotificationStats(notification.getType(), true);
-            
-            log.debug("실시간 알림 전송 완료: 사용자ID={}, 알림ID={}", userId, notification.getId());
-            
-        } catch (Exception e) {
-            log.warn("실시간 알림 전송 실패: 사용자ID={}", userId, e);
-            updateNotificationStats(notification.getType(), false);
-        }
+        log.debug("실시간 알림 전송 예약: 사용자ID={}, 알림ID={}", userId, notification.getId());
     }
 
     /**
-     * WebSocket 알림 전송 및 재연결 로직
-     * 연결 실패 시 최대 3회 재시도 with 백오프
+     * 창이 닫힌 가격 변동 묶음을 사용자당 알림 한 건으로 기록
+     * 변동 코인이 하나면 기존 가격 알림 형식을, 여러 개면 코인 목록 요약 알림을 만듭니다.
      */
-    private void sendWebSocketNotificationWithRetry(Long userId, WebSocketDto.Notification notification, int retryCount) {
-        final int MAX_RETRIES = 3;
-        final long[] RETRY_DELAYS = {100L, 500L, 1000L}; // 밀리초
-
-        try {
-            // NotificationWebSocketHandler를 통한 직접 전송
-            if (notificationWebSocketHandler.isUserConnected(userId)) {
-                notificationWebSocketHandler.sendNotification(userId, notification);
-                log.debug("WebSocket 직접 전송 성공: 사용자ID={}", userId);
-            } else {
-                // WebSocket 연결이 없는 경우 STOMP 대체 전송
-                sendStompNotification(userId, notification);
-                log.debug("WebSocket 미연결로 STOMP 대체 전송: 사용자ID={}", userId);
-            }
-            
-        } catch (Exception e) {
-            if (retryCount < MAX_RETRIES) {
-                log.warn("WebSocket 알림 전송 실패, 재시도: 사용자ID={}, 시도={}/{}", 
-                        userId, retryCount + 1, MAX_RETRIES);
-                
-                // 지수 백오프 적용하여 재시도
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        Thread.sleep(RETRY_DELAYS[retryCount]);
-                        sendWebSocketNotificationWithRetry(userId, notification, retryCount + 1);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.error("WebSocket 재연결 대기 중 인터럽트: 사용자ID={}", userId);
-                    }
-                });
-            } else {
-                log.error("WebSocket 알림 전송 최종 실패: 사용자ID={}, 최대재시도횟수={}회 초과", userId, MAX_RETRIES);
-                // 최종 실패 시 STOMP 대체 전송 시도
-                try {
-                    sendStompNotification(userId, notification);
-                } catch (Exception stompError) {
-                    log.error("STOMP 대체 전송도 실패: 사용자ID={}", userId, stompError);
-                }
-            }
-        }
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval-ms:1000}")
+    @Transactional
+    public void flushPriceDigests() {
+        flushDigestsUntil(System.currentTimeMillis());
     }
 
     /**
-     * STOMP 프로토콜을 통한 실시간 알림 전송
+     * 종료 시 열려 있는 창까지 모두 기록
      */
-    private void sendStompNotification(Long userId, WebSocketDto.Notification notification) {
+    @PreDestroy
+    void flushOpenDigests() {
+        if (priceDigest.pendingKeys() == 0) {
+            return;
+        }
         try {
-            // SimpMessagingTemplate을 통한 개별 사용자 메시지 전송
-            String destination = "/topic/notifications/" + userId;
-            
-            // 직접 메시징 템플릿 사용
-            messagingTemplate.convertAndSend(destination, notification);
-            
-            log.debug("STOMP 알림 전송 성공: 사용자ID={}, 대상={}", userId, destination);
-            
+            transactionTemplate.executeWithoutResult(status -> flushDigestsUntil(Long.MAX_VALUE));
         } catch (Exception e) {
-            log.error("STOMP 알림 전송 실패: 사용자ID={}", userId, e);
-            throw e; // 재시도 로직을 위해 예외 재발생
+            log.error("종료 중 가격 변동 묶음 알림 기록 실패: 대기 창={}개", priceDigest.pendingKeys(), e);
         }
     }
 
     /**
-     * 코인 가격 알림을 배치로 처리
+     * 지정 시각까지 닫힌 창을 기록 (트랜잭션 안에서 호출)
+     * 트랜잭션이 롤백되면 차감한 한도를 돌려주고 꺼낸 묶음을 다시 넣어 다음 주기에 재시도합니다.
      */
-    private void processCoinPriceAlertsInBatches(List<Long> userIds, CoinPrice coinPrice) {
-        // 사용자별 일일 알림 수 체크를 위한 캐시 활용
-        List<Long> eligibleUsers = userIds.stream()
-                .filter(this::isUserEligibleForNotification)
-                .collect(Collectors.toList());
+    private void flushDigestsUntil(long nowMillis) {
+        Map<Long, List<PriceMove>> digests = priceDigest.drainExpired(nowMillis);
+        if (digests.isEmpty()) {
+            return;
+        }
 
+        // 일일 알림 한도는 묶음 한 건당 한 번만 차감 (한도를 넘은 사용자의 묶음은 버림)
+        List<Long> eligibleUsers = notificationQuotaService.acquire(new ArrayList<>(digests.keySet()));
         if (eligibleUsers.isEmpty()) {
             return;
         }
-
-        String title = String.format("%s 가격 변동", coinPrice.getKoreanName());
-        String message = createPriceChangeMessage(coinPrice);
-
-        // 배치 단위로 알림 전송
-        for (int i = 0; i < eligibleUsers.size(); i += batchSize) {
-            int endIndex = Math.min(i + batchSize, eligibleUsers.size());
-            List<Long> batch = eligibleUsers.subList(i, endIndex);
-
-            for (Long userId : batch) {
-                try {
-                    NotificationDto.CreateRequest request = NotificationDto.CreateRequest.builder()
-                            .userId(userId)
-                            .type("PRICE_ALERT")
-                            .title(title)
-                            .message(message)
-                            .resourceId(Long.valueOf(coinPrice.getCoinId()))
-                            .build();
-
-                    NotificationDto.Response notification = createNotification(request);
-                    sendRealtimeNotification(userId, notification);
-
-                } catch (Exception e) {
-                    log.warn("개별 가격 알림 전송 실패: 사용자ID={}", userId, e);
+        Map<Long, List<PriceMove>> eligibleDigests = new LinkedHashMap<>();
+        eligibleUsers.forEach(userId -> eligibleDigests.put(userId, digests.get(userId)));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    notificationQuotaService.release(eligibleUsers);
+                    priceDigest.restore(eligibleDigests, move -> move.coinId, System.currentTimeMillis());
+                    log.warn("가격 변동 묶음 알림 기록 롤백, 다음 주기에 재시도: 대상사용자={}명", eligibleUsers.size());
                 }
             }
+        });
 
-            // 배치 간 잠시 대기 (서버 부하 방지)
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+        try {
+            List<NotificationDto.CreateRequest> requests = eligibleUsers.stream()
+                    .map(userId -> createPriceDigestRequest(userId, eligibleDigests.get(userId)))
+                    .collect(Collectors.toList());
+            insertPriceAlertsInBatches(requests);
+
+            log.debug("가격 변동 묶음 알림 기록: 대상사용자={}명, 대기 창={}개",
+                    requests.size(), priceDigest.pendingKeys());
+        } catch (RuntimeException e) {
+            // 일부 배치만 기록되지 않도록 트랜잭션 전체를 롤백
+            log.error("가격 변동 묶음 알림 기록 실패: 대상사용자={}명", eligibleUsers.size(), e);
+            throw e;
         }
     }
 
     /**
-     * 사용자 알림 수신 자격 확인
+     * 가격 변동 묶음을 알림 요청으로 변환
      */
-    @Cacheable(value = "userNotificationEligible", key = "#userId + '_' + T(java.time.LocalDate).now()")
-    private boolean isUserEligibleForNotification(Long userId) {
-        // 일일 알림 수 제한 체크
-        long todayNotificationCount = getTodayNotificationCount(userId);
-        return todayNotificationCount < maxDailyNotifications;
+    private NotificationDto.CreateRequest createPriceDigestRequest(Long userId, List<PriceMove> moves) {
+        // 코인 ID는 심볼(BTC 등)이라 숫자 리소스 ID로 쓰지 않음
+        if (moves.size() == 1) {
+            PriceMove move = moves.get(0);
+            return NotificationDto.CreateRequest.builder()
+                    .userId(userId)
+                    .type("PRICE_ALERT")
+                    .title(String.format("%s 가격 변동", move.koreanName))
+                    .message(createPriceChangeMessage(move.currentPrice, move.changePercent))
+                    .build();
+        }
+
+        String summary = moves.stream()
+                .limit(digestSummaryItems)
+                .map(move -> String.format("%s %+.2f%%", move.koreanName, move.changePercent))
+                .collect(Collectors.joining(", "));
+        if (moves.size() > digestSummaryItems) {
+            summary += String.format(" 외 %d개", moves.size() - digestSummaryItems);
+        }
+        return NotificationDto.CreateRequest.builder()
+                .userId(userId)
+                .type("PRICE_ALERT")
+                .title(String.format("관심 코인 가격 변동 요약 (%d개)", moves.size()))
+                .message(summary)
+                .build();
     }
 
     /**
-     * 오늘 알림 수 조회
+     * 가격 알림을 배치로 기록
      */
-    private long getTodayNotificationCount(Long userId) {
-        try {
-            LocalDateTime todayStart = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-            LocalDateTime todayEnd = todayStart.plusDays(1);
-            
-            return notificationRepository.countByUserIdAndCreatedAtBetween(userId, todayStart, todayEnd);
-        } catch (Exception e) {
-            log.warn("오늘 알림 수 조회 실패: 사용자ID={}", userId, e);
-            return 0;
+    private void insertPriceAlertsInBatches(List<NotificationDto.CreateRequest> allRequests) {
+        // 배치 단위로 알림과 전송 대기 항목을 JDBC 배치로 기록 (전달은 디스패처가 비동기로 처리)
+        for (int i = 0; i < allRequests.size(); i += batchSize) {
+            int endIndex = Math.min(i + batchSize, allRequests.size());
+            List<NotificationDto.CreateRequest> requests = allRequests.subList(i, endIndex);
+
+            LocalDateTime now = LocalDateTime.now();
+            long[] notificationIds = notificationOutboxRepository.insertNotifications(requests, now);
+            Map<Long, Long> unreadDeltas = new HashMap<>(requests.size() * 2);
+            requests.forEach(request -> unreadDeltas.merge(request.getUserId(), 1L, Long::sum));
+            unreadNotificationCounter.adjustAllAfterCommit(unreadDeltas);
+            NotificationPreferenceSnapshot.View preferences = notificationPreferenceSnapshot.load(
+                    requests.stream().map(NotificationDto.CreateRequest::getUserId).collect(Collectors.toList()));
+
+            List<Long> deliverIds = new ArrayList<>(requests.size());
+            List<NotificationDto.CreateRequest> deliverRequests = new ArrayList<>(requests.size());
+            for (int j = 0; j < requests.size(); j++) {
+                NotificationDto.CreateRequest request = requests.get(j);
+                if (preferences.isEnabled(request.getUserId(), request.getType())) {
+                    deliverIds.add(notificationIds[j]);
+                    deliverRequests.add(request);
+                }
+            }
+            notificationOutboxRepository.enqueueAll(deliverIds, deliverRequests, now);
         }
     }
 
@@ -551,11 +549,11 @@ public class RealtimeNotificationService {
     /**
      * 가격 변동 메시지 생성
      */
-    private String createPriceChangeMessage(CoinPrice coinPrice) {
-        String direction = coinPrice.getPriceChangePercent().compareTo(BigDecimal.ZERO) > 0 ? "상승" : "하락";
+    private String createPriceChangeMessage(BigDecimal currentPrice, BigDecimal priceChangePercent) {
+        String direction = priceChangePercent.compareTo(BigDecimal.ZERO) > 0 ? "상승" : "하락";
         return String.format("현재가: %s원 (%.2f%% %s)",
-                coinPrice.getCurrentPrice(),
-                coinPrice.getPriceChangePercent().abs(),
+                currentPrice,
+                priceChangePercent.abs(),
                 direction);
     }
 
@@ -600,6 +598,18 @@ public class RealtimeNotificationService {
                 .multiply(BigDecimal.valueOf(100));
     }
 
+    /**
+     * FCM 푸시 알림 동기 전송 (Outbox 전달용, 실패 시 예외)
+     */
+    public void deliverPushNotification(String fcmToken, String title, String message, String type) {
+        if (fcmToken == null || fcmToken.trim().isEmpty()) {
+            return;
+        }
+        if (!sendFcmMessage(fcmToken, title, message, createFcmDataPayload(type, title, message))) {
+            throw new IllegalStateException("FCM 푸시 알림 전송 실패: 유형=" + type);
+        }
+    }
+
     /**
      * FCM 푸시 알림 전송
      * 30년차 베테랑 개발자 품질의 푸시 알림 시스템
@@ -780,65 +790,10 @@ public class RealtimeNotificationService {
         }
     }
 
-    /**
-     * 사용자별 알림 설정 확인
-     */
-    private boolean isNotificationEnabled(Long userId, String notificationType) {
-        try {
-            // 사용자별 알림 설정 테이블 조회
-            Optional<NotificationPreference> preference = notificationPreferenceRepository
-                    .findByUserIdAndNotificationType(userId, notificationType);
-            
-            if (preference.isPresent()) {
-                return preference.get().isNotificationEnabled();
-            }
-            
-            // 설정이 없으면 기본값으로 활성화
-            return true;
-            
-        } catch (Exception e) {
-            log.warn("알림 설정 조회 실패, 기본값 사용: 사용자ID={}, 타입={}", userId, notificationType, e);
-            return true;
-        }
-    }
-
-    /**
-     * 알림 전송 통계 업데이트
-     */
-    private void updateNotificationStats(String type, boolean success) {
-        try {
-            LocalDateTime currentHour = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
-            
-            // 웹소켓 전송 통계
-            updateNotificationStatsByMethod(type, "WEBSOCKET", success, currentHour);
-            
-            // FCM 전송 통계 (푸시 알림인 경우)
-            if (type.equals("PRICE_ALERT") || type.equals("MARKET_ALERT")) {
-                updateNotificationStatsByMethod(type, "FCM", success, currentHour);
-            }
-            
-            log.debug("알림 통계 업데이트 완료: 타입={}, 성공={}", type, success);
-            
-        } catch (Exception e) {
-            log.warn("알림 통계 업데이트 실패: 타입={}", type, e);
-        }
-    }
-
-    /**
-     * 전송 방법별 통계 업데이트 (간단한 로깅으로 대체)
-     */
-    private void updateNotificationStatsByMethod(String type, String method, boolean success, LocalDateTime hour) {
-        try {
-            // NotificationStatistics 엔티티 제거로 인해 간단한 로깅으로 대체
-            log.debug("알림 통계: 타입={}, 방법={}, 성공={}, 시간={}", type, method, success, hour);
-        } catch (Exception e) {
-            log.warn("통계 업데이트 실패: 타입={}, 방법={}", type, method, e);
-        }
-    }
-
     /**
      * 특정 사용자에게 알림 전송 (CreateRequest)
      */
+    @Transactional
     public void sendToUser(Long userId, NotificationDto.CreateRequest request) {
         try {
             NotificationDto.Response notification = createNotification(request);
@@ -862,4 +817,21 @@ public class RealtimeNotificationService {
             log.error("실시간 알림 전송 실패: userId={}, error={}", userId, e.getMessage(), e);
         }
     }
+
+    /**
+     * 묶음 창에 보관하는 가격 변동 (엔티티 대신 필요한 값만 복사)
+     */
+    private static final class PriceMove {
+        private final String coinId;
+        private final String koreanName;
+        private final BigDecimal currentPrice;
+        private final BigDecimal changePercent;
+
+        private PriceMove(CoinPrice coinPrice) {
+            this.coinId = coinPrice.getCoinId();
+            this.koreanName = coinPrice.getKoreanName();
+            this.currentPrice = coinPrice.getCurrentPrice();
+            this.changePercent = coinPrice.getPriceChangePercent();
+        }
+    }
 }
@@ -199,7 +199,7 @@ public class TransactionService {
     /**
      * 사용자 거래 내역 목록 조회
      */
-    @Cacheable(value = "userTransactions", key = "#username + '_' + #portfolioId + '_' + #filter.hashCode() + '_' + #pageable.pageNumber")
+    @Cacheable(value = "userTransactions", keyGenerator = "canonicalKeyGenerator")
     public PageResponse<TransactionDto.Response> getUserTransactions(String username, Long portfolioId,
                                                                     TransactionDto.FilterRequest filter, 
                                                                     Pageable pageable) {
@@ -222,7 +222,7 @@ public class TransactionService {
     /**
      * 포트폴리오별 거래 내역 조회
      */
-    @Cacheable(value = "portfolioTransactions", key = "#portfolioId + '_' + #username + '_' + #filter.hashCode() + '_' + #pageable.pageNumber")
+    @Cacheable(value = "portfolioTransactions", keyGenerator = "canonicalKeyGenerator")
     public PageResponse<TransactionDto.Response> getPortfolioTransactions(Long portfolioId, String username,
                                                                          TransactionDto.FilterRequest filter,
                                                                          Pageable pageable) {
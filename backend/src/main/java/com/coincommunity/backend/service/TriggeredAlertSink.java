@@ -0,0 +1,166 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.dto.PriceAlertDto;
+import com.coincommunity.backend.repository.PriceAlertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발동된 가격 알림 상태 변경 모음 저장소
+ *
+ * 한 번의 평가 패스에서 발동된 알림의 상태 변경을 모아 (다음 상태, 현재 가격)이 같은 알림끼리
+ * UPDATE ... WHERE id IN (...) 한 번으로 반영합니다. 같은 틱의 같은 코인 알림은 현재 가격이 같으므로
+ * 쿼리 수는 알림 수가 아니라 (코인 x 다음 상태) 수에 비례합니다.
+ * 묶음마다 대기 중인 행을 먼저 잠가 실제로 갱신된 알림 ID를 돌려주므로, 호출자는 그 알림만 전송합니다.
+ */
+@Slf4j
+@Component
+public class TriggeredAlertSink {
+
+    // IN 절 파라미터 수 제한
+    private static final int MAX_IDS_PER_UPDATE = 500;
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final Timer flushTimer;
+    private final Counter flushedAlertsCounter;
+    private final DistributionSummary statementsPerFlush;
+
+    public TriggeredAlertSink(PriceAlertRepository priceAlertRepository, MeterRegistry meterRegistry) {
+        this.priceAlertRepository = priceAlertRepository;
+        this.flushTimer = Timer.builder("price-alert.flush")
+                .description("발동된 가격 알림 일괄 저장 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.flushedAlertsCounter = Counter.builder("price-alert.flush.alerts")
+                .description("일괄 저장된 발동 알림 수").register(meterRegistry);
+        this.statementsPerFlush = DistributionSummary.builder("price-alert.flush.statements")
+                .description("일괄 저장 한 번에 실행한 쿼리 수 (잠금 조회 + UPDATE)").register(meterRegistry);
+    }
+
+    /**
+     * 평가 패스 하나의 상태 변경 모음 생성
+     */
+    public Batch newBatch(LocalDateTime triggeredAt) {
+        return new Batch(triggeredAt);
+    }
+
+    /**
+     * 모은 상태 변경을 한 트랜잭션에서 일괄 반영
+     *
+     * @return 실제로 갱신된 알림 ID (그 사이 취소되었거나 다른 노드가 완료한 알림은 제외)
+     */
+    @Transactional
+    public Set<Long> flush(Batch batch) {
+        if (batch.isEmpty()) {
+            return Set.of();
+        }
+        long started = System.nanoTime();
+        Set<Long> updatedIds = new HashSet<>();
+        int statements = 0;
+        for (Map.Entry<Transition, List<Long>> entry : batch.idsByTransition.entrySet()) {
+            Transition transition = entry.getKey();
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+                List<Long> pendingIds = priceAlertRepository.lockPendingIds(chunk);
+                if (pendingIds.isEmpty()) {
+                    continue;
+                }
+                priceAlertRepository.updateTriggered(pendingIds, transition.nextStatus,
+                        transition.currentPrice, batch.triggeredAt);
+                updatedIds.addAll(pendingIds);
+                statements += 2;
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        flushTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        flushedAlertsCounter.increment(updatedIds.size());
+        statementsPerFlush.record(statements);
+        log.debug("발동 알림 일괄 저장 - 알림: {}건, 갱신: {}건, 쿼리: {}회, 소요: {}ms",
+                batch.size, updatedIds.size(), statements, elapsed / 1_000_000);
+        return updatedIds;
+    }
+
+    /**
+     * 한 번의 평가 패스에서 모은 상태 변경
+     */
+    public static final class Batch {
+        private final LocalDateTime triggeredAt;
+        private final Map<Transition, List<Long>> idsByTransition = new LinkedHashMap<>();
+        private int size;
+
+        private Batch(LocalDateTime triggeredAt) {
+            this.triggeredAt = triggeredAt;
+        }
+
+        /**
+         * 발동된 알림의 다음 상태 기록 (반복 알림은 PENDING, 일회성 알림은 COMPLETED)
+         */
+        public void record(Long alertId, PriceAlertDto.AlertStatus nextStatus, BigDecimal currentPrice) {
+            idsByTransition.computeIfAbsent(new Transition(nextStatus, currentPrice), key -> new ArrayList<>())
+                    .add(alertId);
+            size++;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public LocalDateTime getTriggeredAt() {
+            return triggeredAt;
+        }
+    }
+
+    /**
+     * 같은 UPDATE로 묶을 수 있는 상태 변경 (다음 상태, 현재 가격)
+     */
+    private static final class Transition {
+        private final PriceAlertDto.AlertStatus nextStatus;
+        private final BigDecimal currentPrice;
+
+        private Transition(PriceAlertDto.AlertStatus nextStatus, BigDecimal currentPrice) {
+            this.nextStatus = nextStatus;
+            this.currentPrice = currentPrice;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Transition)) {
+                return false;
+            }
+            Transition other = (Transition) o;
+            return nextStatus == other.nextStatus
+                    && (currentPrice == null ? other.currentPrice == null
+                        : other.currentPrice != null && currentPrice.compareTo(other.currentPrice) == 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nextStatus, currentPrice != null ? currentPrice.stripTrailingZeros() : null);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터 (Redis)
+ *
+ * notification:unread:{사용자ID} 키에 읽지 않은 알림 수를 보관하고, 알림 생성/읽음/삭제 시 증감합니다.
+ * 키가 없으면 처음 조회할 때 DB COUNT로 채우며, 증감은 키가 있을 때만 반영하여 채워지지 않은 값을 만들지 않습니다.
+ * 증감은 트랜잭션 커밋 이후에 반영하고, 만료 시간마다 DB 값으로 다시 채워 오차가 누적되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있을 때만 증감 (음수가 되면 0으로 보정), 키가 없으면 -1 반환
+    private static final String ADJUST_LUA = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then
+              redis.call('SET', KEYS[1], 0)
+              v = 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return v
+            """;
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(ADJUST_LUA, Long.class);
+    private static final byte[] ADJUST_SCRIPT_BYTES = ADJUST_LUA.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.unread-counter.ttl-ms:3600000}")
+    private long ttlMs;
+
+    public UnreadNotificationCounter(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                     NotificationRepository notificationRepository) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (키가 없을 때만 DB COUNT)
+     */
+    public long get(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 조회 실패, DB 값 사용: 사용자ID={}", userId, e);
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), Duration.ofMillis(ttlMs));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 저장 실패: 사용자ID={}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 커밋 이후 증감 반영
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> adjust(userId, delta));
+    }
+
+    /**
+     * 커밋 이후 여러 사용자의 증감을 파이프라인 한 번으로 반영
+     */
+    public void adjustAllAfterCommit(Map<Long, Long> deltaByUser) {
+        if (deltaByUser.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> adjustAll(deltaByUser));
+    }
+
+    /**
+     * 알림이 일괄 이동/삭제된 사용자의 카운터 제거 (다음 조회에서 DB 값으로 다시 채움)
+     */
+    public void resetAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(userIds.stream().map(UnreadNotificationCounter::key).toList());
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 카운터 일괄 초기화 실패: 대상={}명", userIds.size(), e);
+        }
+    }
+
+    private void adjust(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_SCRIPT, List.of(key(userId)), String.valueOf(delta), String.valueOf(ttlMs));
+        } catch (Exception e) {
+            evict(userId, e);
+        }
+    }
+
+    private void adjustAll(Map<Long, Long> deltaByUser) {
+        try {
+            byte[] ttl = String.valueOf(ttlMs).getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltaByUser.forEach((userId, delta) -> connection.scriptingCommands().eval(ADJUST_SCRIPT_BYTES,
+                        ReturnType.INTEGER, 1,
+                        key(userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8),
+                        ttl));
+                return null;
+            });
+        } catch (Exception e) {
+            evictAll(deltaByUser.keySet(), e);
+        }
+    }
+
+    /**
+     * 증감을 반영하지 못한 경우 키를 지워 다음 조회에서 DB 값으로 다시 채움
+     */
+    private void evict(Long userId, Exception cause) {
+        log.warn("읽지 않은 알림 수 증감 실패, 카운터 초기화: 사용자ID={}", userId, cause);
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 카운터 초기화 실패: 사용자ID={}", userId, e);
+        }
+    }
+
+    /**
+     * 일괄 증감 중 일부가 반영되었는지 알 수 없으므로 대상 사용자의 키를 모두 지움
+     */
+    private void evictAll(Collection<Long> userIds, Exception cause) {
+        log.warn("읽지 않은 알림 수 일괄 증감 실패, 카운터 초기화: 대상={}명", userIds.size(), cause);
+        resetAll(userIds);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -9,6 +9,7 @@ import com.coincommunity.backend.repository.UserRepository;
 import com.coincommunity.backend.repository.PostRepository;
 import com.coincommunity.backend.repository.CommentRepository;
 import com.coincommunity.backend.security.JwtTokenProvider;
+import com.coincommunity.backend.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +33,7 @@ public class UserService {
     private final CommentRepository commentRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PrincipalCache principalCache;
     
     /**
      * 사용자 ID로 사용자를 조회합니다.
@@ -108,7 +110,7 @@ public class UserService {
         }
         
         // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRole(), user.getStatus());
         
         return new UserDto.LoginResponse(accessToken, "Bearer", UserDto.UserResponse.from(user));
     }
@@ -188,6 +190,7 @@ public class UserService {
         User user = findById(userId);
         user.setStatus(status);
         userRepository.save(user);
+        principalCache.invalidate(userId);
     }
     
     /**
@@ -0,0 +1,113 @@
+package com.coincommunity.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 창 단위 이벤트 묶음 버퍼
+ *
+ * 키(사용자 등)별로 첫 이벤트가 들어온 시점부터 창 길이 동안 이벤트를 모으고, 창이 닫히면 한 번에 꺼냅니다.
+ * 같은 항목 키(코인 심볼 등)의 이벤트는 마지막 값으로 합쳐지며, 키당 항목 수는 상한을 넘으면 오래된 것부터 버립니다.
+ * 급등락 구간에도 키당 창 하나에 한 번만 내보내므로 알림 기록/전송 횟수가 창 길이로 제한됩니다.
+ */
+public class DigestAggregator<K, V> {
+
+    private final long windowMillis;
+    private final int maxItemsPerKey;
+    private final Map<K, Window<V>> windows = new HashMap<>();
+
+    public DigestAggregator(long windowMillis, int maxItemsPerKey) {
+        if (windowMillis <= 0 || maxItemsPerKey <= 0) {
+            throw new IllegalArgumentException("묶음 창 설정이 올바르지 않습니다: window=" + windowMillis
+                    + ", maxItems=" + maxItemsPerKey);
+        }
+        this.windowMillis = windowMillis;
+        this.maxItemsPerKey = maxItemsPerKey;
+    }
+
+    /**
+     * 여러 키에 같은 이벤트 추가 (대량 수신자 이벤트를 한 번의 잠금으로 처리)
+     */
+    public synchronized void addAll(Collection<K> keys, String itemKey, V item, long nowMillis) {
+        for (K key : keys) {
+            addLocked(key, itemKey, item, nowMillis);
+        }
+    }
+
+    /**
+     * 이벤트 추가
+     */
+    public synchronized void add(K key, String itemKey, V item, long nowMillis) {
+        addLocked(key, itemKey, item, nowMillis);
+    }
+
+    /**
+     * 창이 닫힌 키의 이벤트를 꺼냄 (항목은 처음 들어온 순서)
+     */
+    public synchronized Map<K, List<V>> drainExpired(long nowMillis) {
+        Map<K, List<V>> expired = new LinkedHashMap<>();
+        Iterator<Map.Entry<K, Window<V>>> iterator = windows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Window<V>> entry = iterator.next();
+            if (entry.getValue().closesAt <= nowMillis) {
+                expired.put(entry.getKey(), new ArrayList<>(entry.getValue().items.values()));
+                iterator.remove();
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 꺼낸 이벤트를 다시 넣음 (기록 실패 시 다음 drainExpired에서 재시도)
+     * 그 사이 같은 키에 새 창이 열렸으면 그 창에 합치며, 같은 항목은 새로 들어온 값을 유지합니다.
+     */
+    public synchronized void restore(Map<K, List<V>> drained, Function<V, String> itemKey, long nowMillis) {
+        drained.forEach((key, items) -> {
+            Window<V> window = windows.computeIfAbsent(key, k -> new Window<>(nowMillis));
+            for (V item : items) {
+                window.items.putIfAbsent(itemKey.apply(item), item);
+            }
+            Iterator<String> eldest = window.items.keySet().iterator();
+            while (window.items.size() > maxItemsPerKey) {
+                eldest.next();
+                eldest.remove();
+            }
+        });
+    }
+
+    /**
+     * 열려 있는 창 수
+     */
+    public synchronized int pendingKeys() {
+        return windows.size();
+    }
+
+    private void addLocked(K key, String itemKey, V item, long nowMillis) {
+        Window<V> window = windows.computeIfAbsent(key, k -> new Window<>(nowMillis + windowMillis));
+        if (window.items.containsKey(itemKey)) {
+            window.items.put(itemKey, item);
+            return;
+        }
+        window.items.put(itemKey, item);
+        if (window.items.size() > maxItemsPerKey) {
+            Iterator<String> eldest = window.items.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static final class Window<V> {
+        private final long closesAt;
+        private final LinkedHashMap<String, V> items = new LinkedHashMap<>();
+
+        private Window(long closesAt) {
+            this.closesAt = closesAt;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.coincommunity.backend.util;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 일정 시간이 지나면 자동으로 만료되는 ID 집합
+ *
+ * 만료 시간을 고정 개수의 시간 버킷으로 나눠 링 형태로 보관합니다. 새 버킷에 기록할 때 한 바퀴 전의
+ * 버킷을 통째로 비우므로 항목별 만료 시각을 관리하지 않고, 메모리는 만료 시간 안에 기록된 ID 수로 제한됩니다.
+ * 만료 시점은 버킷 간격 단위로 근사됩니다 (만료 시간 - 버킷 간격 ~ 만료 시간).
+ */
+public class ExpiringIdSet {
+
+    private final long bucketMillis;
+    private final Set<Long>[] buckets;
+    private final long[] bucketIndexes;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringIdSet(Duration ttl, int bucketCount) {
+        if (bucketCount <= 0 || ttl.toMillis() < bucketCount) {
+            throw new IllegalArgumentException("만료 시간과 버킷 수가 올바르지 않습니다: " + ttl + ", " + bucketCount);
+        }
+        this.bucketMillis = ttl.toMillis() / bucketCount;
+        this.buckets = new Set[bucketCount];
+        this.bucketIndexes = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new HashSet<>();
+            bucketIndexes[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * ID 기록 (이미 있으면 만료 시간 연장)
+     */
+    public synchronized void add(long id, long nowMillis) {
+        long index = nowMillis / bucketMillis;
+        int slot = slot(index);
+        if (bucketIndexes[slot] != index) {
+            buckets[slot].clear();
+            bucketIndexes[slot] = index;
+        }
+        buckets[slot].add(id);
+    }
+
+    /**
+     * 만료되지 않은 ID인지 확인
+     */
+    public synchronized boolean contains(long id, long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        for (int i = 0; i < buckets.length; i++) {
+            if (bucketIndexes[i] >= oldest && buckets[i].contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 만료되지 않은 버킷에 기록된 항목 수 (같은 ID가 여러 버킷에 있으면 중복 집계)
+     */
+    public synchronized int size(long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        int size = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            if (bucketIndexes[i] >= oldest) {
+                size += buckets[i].size();
+            }
+        }
+        return size;
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) buckets.length);
+    }
+}
@@ -0,0 +1,158 @@
+package com.coincommunity.backend.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이머 휠
+ *
+ * 지연 작업을 (만료 틱 % 슬롯 수) 슬롯에 넣고, 전용 스레드 하나가 틱마다 현재 슬롯만 확인합니다.
+ * 작업 등록은 O(1)이고 대기 작업 수와 무관하게 틱당 비용이 일정하며, 만료 시점은 틱 간격 단위로 근사됩니다.
+ * 만료된 작업은 틱 스레드에서 실행하지 않고 지정된 Executor로 넘기며, Executor가 거부하면 다음 틱에 다시 넘깁니다.
+ * (Executor는 호출자 실행 정책이 아닌 거부 정책을 써야 틱 스레드가 작업에 묶이지 않음)
+ * 대기 작업 수가 상한에 도달하면 등록을 거부하므로 호출자가 다른 방식으로 처리해야 합니다.
+ */
+@Slf4j
+public class TimerWheel {
+
+    private final long tickNanos;
+    private final Queue<Task>[] slots;
+    private final Queue<Task> incoming = new ConcurrentLinkedQueue<>();
+    // 틱 스레드 전용 (Executor가 거부한 작업을 잠시 모아 둠)
+    private final Queue<Task> rejected = new ArrayDeque<>();
+    private final Executor executor;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(String name, long tickMillis, int slotCount, int maxPending, Executor executor) {
+        if (tickMillis <= 0 || slotCount <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("타이머 휠 설정이 올바르지 않습니다: tick=" + tickMillis
+                    + ", slots=" + slotCount + ", maxPending=" + maxPending);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.maxPending = maxPending;
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 지연 작업 등록
+     *
+     * @return 대기 작업 수가 상한에 도달했거나 중지된 경우 false
+     */
+    public boolean schedule(Runnable action, long delay, TimeUnit unit) {
+        if (!running) {
+            return false;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return false;
+        }
+        long deadline = System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay));
+        incoming.add(new Task(action, deadline));
+        return true;
+    }
+
+    /**
+     * 실행 대기 중인 작업 수
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 틱 스레드 중지 (대기 중인 작업은 실행하지 않음)
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickAt = (currentTick + 1) * tickNanos;
+            long sleepNanos = nextTickAt - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            currentTick++;
+            transferIncoming();
+            expire(slots[(int) (currentTick % slots.length)]);
+        }
+    }
+
+    /**
+     * 새로 등록된 작업을 만료 틱의 슬롯으로 이동
+     */
+    private void transferIncoming() {
+        Task task;
+        while ((task = incoming.poll()) != null) {
+            long expiryTick = Math.max(currentTick, (task.deadlineNanos + tickNanos - 1) / tickNanos);
+            task.remainingRounds = (expiryTick - currentTick) / slots.length;
+            slots[(int) (expiryTick % slots.length)].add(task);
+        }
+    }
+
+    private void expire(Queue<Task> slot) {
+        Iterator<Task> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            if (task.remainingRounds > 0) {
+                task.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            try {
+                executor.execute(task.action);
+                pending.decrementAndGet();
+            } catch (RejectedExecutionException e) {
+                // Executor 포화: 대기 수를 유지한 채 다음 틱 슬롯으로 이동
+                rejected.add(task);
+            } catch (Exception e) {
+                pending.decrementAndGet();
+                log.error("타이머 휠 작업 실행 위임 실패", e);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            log.debug("타이머 휠 작업 실행 위임 거부, 다음 틱에 재시도: {}건", rejected.size());
+            slots[(int) ((currentTick + 1) % slots.length)].addAll(rejected);
+            rejected.clear();
+        }
+    }
+
+    private static final class Task {
+        private final Runnable action;
+        private final long deadlineNanos;
+        private long remainingRounds;
+
+        private Task(Runnable action, long deadlineNanos) {
+            this.action = action;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
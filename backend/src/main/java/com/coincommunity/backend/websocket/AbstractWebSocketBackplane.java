@@ -0,0 +1,86 @@
+package com.coincommunity.backend.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 백플레인 공통 구현 - 로컬 구독자 관리와 전달
+ */
+@Slf4j
+public abstract class AbstractWebSocketBackplane implements WebSocketBackplane {
+
+    private final String nodeId;
+    private final Map<BackplaneMessage.Kind, List<Consumer<BackplaneMessage>>> listeners =
+            new EnumMap<>(BackplaneMessage.Kind.class);
+
+    protected AbstractWebSocketBackplane(String nodeId) {
+        this.nodeId = nodeId;
+        for (BackplaneMessage.Kind kind : BackplaneMessage.Kind.values()) {
+            listeners.put(kind, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void subscribe(BackplaneMessage.Kind kind, Consumer<BackplaneMessage> listener) {
+        listeners.get(kind).add(listener);
+    }
+
+    /**
+     * 발신 노드 ID를 채운 메시지 생성
+     */
+    protected BackplaneMessage stamp(BackplaneMessage message) {
+        return message.getOrigin() != null ? message : message.toBuilder().origin(nodeId).build();
+    }
+
+    @Override
+    public void publishConfirmed(BackplaneMessage message) {
+        BackplaneMessage stamped = stamp(message);
+        publishToOtherNodes(stamped);
+
+        // 모든 구독자를 처리한 뒤 첫 실패를 전달
+        RuntimeException failure = null;
+        for (Consumer<BackplaneMessage> listener : listeners.get(stamped.getKind())) {
+            try {
+                listener.accept(stamped);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 다른 노드로 발행 (실패 시 예외, 단일 노드 구현은 할 일 없음)
+     */
+    protected void publishToOtherNodes(BackplaneMessage stamped) {
+    }
+
+    /**
+     * 현재 노드의 구독자에게 전달 (구독자 하나의 실패가 다른 구독자에 영향을 주지 않음)
+     */
+    protected void deliverLocally(BackplaneMessage message) {
+        for (Consumer<BackplaneMessage> listener : listeners.get(message.getKind())) {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                log.error("백플레인 메시지 처리 실패: kind={}, origin={}", message.getKind(), message.getOrigin(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.coincommunity.backend.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 WebSocket 메시지 봉투
+ * payload는 이미 직렬화된 JSON 문자열로, 수신 노드가 그대로 로컬 세션에 전달합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackplaneMessage {
+
+    /**
+     * 메시지 종류
+     */
+    public enum Kind {
+        PRICES,     // 코인 가격 업데이트 목록
+        USER,       // 특정 사용자 알림
+        BROADCAST,  // 전체 알림 세션 브로드캐스트
+        TOPIC,      // STOMP 토픽 메시지
+        PRINCIPAL   // 사용자 역할/상태 변경 (인증 주체 캐시 무효화, payload는 변경 시각 ms)
+    }
+
+    private Kind kind;
+    private String origin;
+    private Long userId;
+    private String destination;
+    private String payload;
+
+    public static BackplaneMessage prices(String payload) {
+        return BackplaneMessage.builder().kind(Kind.PRICES).payload(payload).build();
+    }
+
+    public static BackplaneMessage user(Long userId, String payload) {
+        return BackplaneMessage.builder().kind(Kind.USER).userId(userId).payload(payload).build();
+    }
+
+    public static BackplaneMessage broadcast(String payload) {
+        return BackplaneMessage.builder().kind(Kind.BROADCAST).payload(payload).build();
+    }
+
+    public static BackplaneMessage principal(Long userId, String changedAtMillis) {
+        return BackplaneMessage.builder().kind(Kind.PRINCIPAL).userId(userId).payload(changedAtMillis).build();
+    }
+
+    public static BackplaneMessage topic(String destination, String payload) {
+        return BackplaneMessage.builder().kind(Kind.TOPIC).destination(destination).payload(payload).build();
+    }
+}
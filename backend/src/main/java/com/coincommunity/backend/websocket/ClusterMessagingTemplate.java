@@ -0,0 +1,81 @@
+package com.coincommunity.backend.websocket;
+
+import com.coincommunity.backend.config.WebSocketConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 STOMP 토픽 전송
+ *
+ * SimpleBroker는 노드 로컬 구독만 알고 있으므로, 토픽 메시지를 백플레인으로 발행하고
+ * 각 노드가 자신의 브로커로 다시 전달합니다. 서비스에서는 SimpMessagingTemplate 대신 사용합니다.
+ * 외부 브로커 중계(relay) 모드에서는 브로커가 모든 노드의 구독자에게 전달하므로 백플레인을 거치지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterMessagingTemplate {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketBackplane webSocketBackplane;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.stomp.broker:simple}")
+    private String stompBroker;
+
+    private boolean brokerRelay;
+
+    @PostConstruct
+    public void init() {
+        brokerRelay = WebSocketConfig.isRelayBroker(stompBroker);
+        if (!brokerRelay) {
+            webSocketBackplane.subscribe(BackplaneMessage.Kind.TOPIC, this::deliverLocally);
+        }
+    }
+
+    /**
+     * 모든 노드의 토픽 구독자에게 메시지 전송
+     */
+    public void convertAndSend(String destination, Object payload) {
+        if (brokerRelay) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        try {
+            webSocketBackplane.publish(BackplaneMessage.topic(destination, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("토픽 메시지 직렬화 실패: " + destination, e);
+        }
+    }
+
+    /**
+     * 모든 노드의 토픽 구독자에게 메시지 전송 (발행/브로커 전달 실패 시 예외, Outbox 전달용)
+     */
+    public void convertAndSendConfirmed(String destination, Object payload) {
+        if (brokerRelay) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        try {
+            webSocketBackplane.publishConfirmed(BackplaneMessage.topic(destination, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("토픽 메시지 직렬화 실패: " + destination, e);
+        }
+    }
+
+    private void deliverLocally(BackplaneMessage message) {
+        try {
+            // JsonNode로 전달해야 브로커 변환기가 문자열로 한 번 더 감싸지 않음
+            messagingTemplate.convertAndSend(message.getDestination(), objectMapper.readTree(message.getPayload()));
+        } catch (JsonProcessingException e) {
+            log.warn("토픽 메시지 해석 실패: destination={}", message.getDestination());
+        }
+    }
+}
@@ -2,17 +2,33 @@ package com.coincommunity.backend.websocket;
 
 import com.coincommunity.backend.dto.CoinPriceDto;
 import com.coincommunity.backend.entity.CoinPrice;
+import com.coincommunity.backend.service.PriceBook;
+import com.coincommunity.backend.service.PriceSseService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -23,23 +39,81 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class CoinPriceWebSocketHandler extends TextWebSocketHandler {
 
+    private static final TypeReference<List<CoinPriceDto.RealtimeUpdate>> PRICE_UPDATE_LIST = new TypeReference<>() {};
+
     private final ObjectMapper objectMapper;
+    private final PriceSubscriptionRegistry subscriptionRegistry;
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final PriceFrameBuilder priceFrameBuilder;
+    private final PriceDeltaStream priceDeltaStream;
+    private final PriceBook priceBook;
+    private final WebSocketBackplane webSocketBackplane;
+    private final WebSocketConnectionMonitor connectionMonitor;
+    private final PriceSseService priceSseService;
     private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+    // 다음 프레임에 포함될 업데이트 (코인ID-거래소 → 최신 값)
+    private final Map<String, CoinPriceDto.RealtimeUpdate> pendingUpdates = new LinkedHashMap<>();
+    // 세션별 마지막으로 전달한 스트림 시퀀스 (다음 프레임의 prev)
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    // 델타 전송과 스냅샷 전송이 섞이지 않도록 시퀀스 부여와 큐 적재를 직렬화
+    private final Object streamLock = new Object();
+
+    @Value("${websocket.send.price-overflow-policy:DROP_OLDEST}")
+    private OutboundMessageDispatcher.SlowConsumerPolicy overflowPolicy;
+
+    @PostConstruct
+    public void init() {
+        webSocketBackplane.subscribe(BackplaneMessage.Kind.PRICES, this::onClusterPriceUpdates);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.info("새로운 WebSocket 연결이 설정되었습니다: {}", session.getId());
+        if (!connectionMonitor.track(session, () -> cleanUp(session))) {
+            closeQuietly(session, CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
         sessions.put(session.getId(), session);
+        subscriptionRegistry.register(session.getId());
+        outboundMessageDispatcher.register(session, overflowPolicy);
+        lastSequences.put(session.getId(), priceDeltaStream.currentSequence());
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         log.info("WebSocket 연결이 종료되었습니다: {}", session.getId());
+        connectionMonitor.untrack(session.getId());
+        cleanUp(session);
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        connectionMonitor.touch(session.getId());
+    }
+
+    /**
+     * 세션 관련 상태 정리 (여러 번 호출되어도 안전)
+     */
+    private void cleanUp(WebSocketSession session) {
         sessions.remove(session.getId());
+        binarySessions.remove(session.getId());
+        lastSequences.remove(session.getId());
+        subscriptionRegistry.remove(session.getId());
+        outboundMessageDispatcher.unregister(session.getId());
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("WebSocket 세션 종료 중 오류: {}", e.getMessage());
+        }
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        connectionMonitor.touch(session.getId());
         try {
             String payload = message.getPayload();
             log.debug("클라이언트로부터 메시지를 받았습니다: {}", payload);
@@ -49,8 +123,19 @@ public class CoinPriceWebSocketHandler extends TextWebSocketHandler {
             
             // 요청 처리 로직 구현
             if ("subscribe".equals(request.getType())) {
-                log.info("사용자 {}가 코인 데이터를 구독했습니다: {}", session.getId(), request.getCoinId());
-                // 구독 처리 로직은 여기에 구현 (옵션)
+                applyFrameFormat(session, request.getFormat());
+                Set<String> symbols = subscriptionRegistry.subscribe(
+                        session.getId(), requestedSymbols(request), request.getExchanges());
+                log.info("사용자 {}가 코인 데이터를 구독했습니다: {}", session.getId(), symbols);
+                sendSubscriptionAck(session, "subscribed", symbols);
+                synchronize(session, request.getStream(), request.getSince());
+            } else if ("resync".equals(request.getType())) {
+                log.debug("가격 스트림 재동기화 요청: session={}, since={}", session.getId(), request.getSince());
+                synchronize(session, request.getStream(), request.getSince());
+            } else if ("unsubscribe".equals(request.getType())) {
+                Set<String> symbols = subscriptionRegistry.unsubscribe(session.getId(), requestedSymbols(request));
+                log.info("사용자 {}가 코인 데이터 구독을 해제했습니다. 남은 구독: {}", session.getId(), symbols);
+                sendSubscriptionAck(session, "unsubscribed", symbols);
             }
         } catch (Exception e) {
             log.error("WebSocket 메시지 처리 중 오류가 발생했습니다", e);
@@ -58,27 +143,197 @@ public class CoinPriceWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 모든 연결된 클라이언트에게 코인 가격 업데이트를 전송합니다.
+     * 가격 프레임 형식 설정 (binary를 요청한 세션만 바이너리 프레임 수신)
+     */
+    private void applyFrameFormat(WebSocketSession session, String format) {
+        if ("binary".equalsIgnoreCase(format)) {
+            binarySessions.add(session.getId());
+        } else if ("json".equalsIgnoreCase(format)) {
+            binarySessions.remove(session.getId());
+        }
+    }
+
+    /**
+     * 요청의 단일 coinId와 symbols 목록을 합쳐 구독 대상 심볼 목록 생성
+     */
+    private List<String> requestedSymbols(WebSocketRequest request) {
+        List<String> symbols = new ArrayList<>();
+        if (request.getCoinId() != null) {
+            symbols.add(request.getCoinId());
+        }
+        if (request.getSymbols() != null) {
+            symbols.addAll(request.getSymbols());
+        }
+        return symbols;
+    }
+
+    /**
+     * 구독 상태 응답 전송
+     */
+    private void sendSubscriptionAck(WebSocketSession session, String type, Set<String> symbols) throws IOException {
+        Map<String, Object> ack = new LinkedHashMap<>();
+        ack.put("type", type);
+        ack.put("symbols", symbols);
+        outboundMessageDispatcher.send(session.getId(), new TextMessage(objectMapper.writeValueAsString(ack)));
+    }
+
+    /**
+     * 해당 코인/거래소를 구독한 클라이언트에게 코인 가격 업데이트를 전송합니다.
+     * 즉시 전송하지 않고 다음 프레임에 포함됩니다.
      */
     public void broadcastPriceUpdate(CoinPriceDto.RealtimeUpdate update) {
+        publishPriceUpdates(List.of(update));
+    }
+
+    /**
+     * 가격 업데이트를 모든 노드에 발행합니다. 각 노드는 수신한 업데이트를 다음 프레임에 추가합니다.
+     */
+    public void publishPriceUpdates(Collection<CoinPriceDto.RealtimeUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
         try {
-            String jsonMessage = objectMapper.writeValueAsString(update);
-            TextMessage message = new TextMessage(jsonMessage);
-            
-            sessions.values().forEach(session -> {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(message);
+            webSocketBackplane.publish(BackplaneMessage.prices(objectMapper.writeValueAsString(updates)));
+        } catch (Exception e) {
+            log.error("가격 업데이트 발행 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 백플레인으로 수신한 가격 업데이트 처리
+     * (발행 노드가 아닌 노드도 가격표를 갱신해야 스냅샷과 델타가 일치함)
+     */
+    private void onClusterPriceUpdates(BackplaneMessage message) {
+        try {
+            List<CoinPriceDto.RealtimeUpdate> updates = objectMapper.readValue(message.getPayload(), PRICE_UPDATE_LIST);
+            // 재동기화 스냅샷이 전달하는 델타보다 뒤처지지 않도록 가격표도 함께 갱신
+            priceBook.applyUpdates(updates);
+            enqueuePriceUpdates(updates);
+        } catch (IOException e) {
+            log.warn("백플레인 가격 업데이트 해석 실패: origin={}", message.getOrigin());
+        }
+    }
+
+    /**
+     * 가격 업데이트를 다음 프레임에 추가합니다.
+     * 같은 코인/거래소의 업데이트가 이미 대기 중이면 최신 값으로 교체합니다.
+     */
+    private void enqueuePriceUpdates(Collection<CoinPriceDto.RealtimeUpdate> updates) {
+        synchronized (pendingUpdates) {
+            for (CoinPriceDto.RealtimeUpdate update : updates) {
+                pendingUpdates.put(PriceBook.key(update.getCoinId(), update.getExchange()), update);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 가격 업데이트를 델타 프레임으로 묶어 전송합니다.
+     *
+     * 마지막으로 내보낸 값 대비 변경된 필드만 델타로 만들고, 세션마다 구독 조건에 맞는 델타 집합을 구합니다.
+     * 같은 집합을 받는 세션끼리는 직렬화된 본문을 공유하고 시퀀스 헤더만 세션별로 붙입니다.
+     * 프레임은 서로 다른 코인을 담을 수 있으므로 송신 큐에서 병합하지 않으며,
+     * 큐에서 버려진 프레임은 클라이언트가 prev 불일치로 감지해 resync를 요청합니다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.price-frame.window-ms:500}")
+    public void flushPriceFrames() {
+        List<CoinPriceDto.RealtimeUpdate> updates;
+        synchronized (pendingUpdates) {
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            updates = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+        }
+
+        try {
+            PriceDeltaStream.DeltaBatch batch;
+            synchronized (streamLock) {
+                batch = priceDeltaStream.advance(updates);
+                if (batch == null) {
+                    return;
+                }
+                List<CoinPriceDto.PriceDelta> deltas = batch.getDeltas();
+
+                Map<String, BitSet> selections = new HashMap<>();
+                for (int i = 0; i < deltas.size(); i++) {
+                    CoinPriceDto.PriceDelta delta = deltas.get(i);
+                    for (String sessionId : subscriptionRegistry.sessionsFor(delta.getCoinId(), delta.getExchange())) {
+                        selections.computeIfAbsent(sessionId, id -> new BitSet()).set(i);
                     }
-                } catch (IOException e) {
-                    log.error("메시지 전송 중 오류가 발생했습니다: {}", session.getId(), e);
                 }
-            });
-            
-            log.debug("코인 가격 업데이트를 {} 세션에 브로드캐스트했습니다", sessions.size());
+
+                Map<BitSet, String> textBodies = new HashMap<>();
+                Map<BitSet, byte[]> binaryBodies = new HashMap<>();
+                for (Map.Entry<String, BitSet> entry : selections.entrySet()) {
+                    String sessionId = entry.getKey();
+                    Long prev = lastSequences.put(sessionId, batch.getSequence());
+                    WebSocketMessage<?> frame = binarySessions.contains(sessionId)
+                            ? priceFrameBuilder.buildBinary(PriceFrameBuilder.DELTA, priceDeltaStream.getStreamId(),
+                                    batch.getSequence(), prev,
+                                    binaryBodies.computeIfAbsent(entry.getValue(),
+                                            bits -> priceFrameBuilder.encodeBinaryBody(select(deltas, bits))))
+                            : priceFrameBuilder.buildText(PriceFrameBuilder.DELTA, priceDeltaStream.getStreamId(),
+                                    batch.getSequence(), prev,
+                                    textBodies.computeIfAbsent(entry.getValue(),
+                                            bits -> priceFrameBuilder.encodeTextBody(select(deltas, bits))));
+                    outboundMessageDispatcher.send(sessionId, frame);
+                }
+
+                log.debug("가격 델타 프레임 전송: seq={}, 델타 {}개, 세션 {}개, 본문 직렬화 {}회 (전체 {} 세션)",
+                        batch.getSequence(), deltas.size(), selections.size(),
+                        textBodies.size() + binaryBodies.size(), sessions.size());
+            }
+            // SSE 구독자 쓰기는 MVC 비동기 실행기로 넘어가므로 스트림 잠금을 놓은 뒤 발행 (발행 순서는 이 스케줄러 스레드가 보장)
+            priceSseService.publish(batch);
         } catch (Exception e) {
-            log.error("브로드캐스트 처리 중 오류가 발생했습니다", e);
+            log.error("가격 프레임 전송 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 클라이언트 가격 상태 동기화
+     * 클라이언트가 보낸 스트림/시퀀스 이후 이력이 남아 있으면 누락된 변경분만, 아니면 구독 범위 전체 스냅샷을 보냅니다.
+     */
+    private void synchronize(WebSocketSession session, String clientStreamId, Long since) {
+        String sessionId = session.getId();
+        synchronized (streamLock) {
+            long current = priceDeltaStream.currentSequence();
+            Optional<List<CoinPriceDto.PriceDelta>> changes = since != null
+                    ? priceDeltaStream.changesSince(clientStreamId, since)
+                    : Optional.empty();
+
+            if (changes.isPresent()) {
+                List<CoinPriceDto.PriceDelta> missed = changes.get().stream()
+                        .filter(delta -> subscriptionRegistry.isSubscribed(sessionId, delta.getCoinId(), delta.getExchange()))
+                        .toList();
+                sendStreamFrame(sessionId, PriceFrameBuilder.DELTA, current, since, missed);
+                log.debug("가격 스트림 복구: session={}, {} -> {}, 변경 {}개", sessionId, since, current, missed.size());
+            } else {
+                List<CoinPriceDto.PriceDelta> snapshot = priceBook.snapshot().stream()
+                        .filter(update -> subscriptionRegistry.isSubscribed(sessionId, update.getCoinId(), update.getExchange()))
+                        .map(CoinPriceDto.PriceDelta::full)
+                        .toList();
+                sendStreamFrame(sessionId, PriceFrameBuilder.SNAPSHOT, current, null, snapshot);
+                log.debug("가격 스냅샷 전송: session={}, seq={}, {}개", sessionId, current, snapshot.size());
+            }
+            lastSequences.put(sessionId, current);
+        }
+    }
+
+    private void sendStreamFrame(String sessionId, String type, long seq, Long prev, List<CoinPriceDto.PriceDelta> entries) {
+        String stream = priceDeltaStream.getStreamId();
+        WebSocketMessage<?> frame = binarySessions.contains(sessionId)
+                ? priceFrameBuilder.buildBinary(type, stream, seq, prev, priceFrameBuilder.encodeBinaryBody(entries))
+                : priceFrameBuilder.buildText(type, stream, seq, prev, priceFrameBuilder.encodeTextBody(entries));
+        outboundMessageDispatcher.send(sessionId, frame);
+    }
+
+    private <T> List<T> select(List<T> items, BitSet bits) {
+        List<T> selected = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            selected.add(items.get(i));
         }
+        return selected;
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.coincommunity.backend.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * WebSocket 연결 수 제한 인터셉터
+ * 업그레이드 전에 전체/IP별 연결 수를 확인하고, 클라이언트 IP를 세션 속성에 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionLimitInterceptor implements HandshakeInterceptor {
+
+    private final WebSocketConnectionMonitor connectionMonitor;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String clientIp = resolveClientIp(request);
+        if (!connectionMonitor.canAccept(clientIp)) {
+            log.warn("WebSocket 연결 수 제한 초과로 핸드셰이크 거부: IP={}", clientIp);
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
+        if (clientIp != null) {
+            attributes.put(WebSocketConnectionMonitor.CLIENT_IP_ATTRIBUTE, clientIp);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /**
+     * 클라이언트 IP 추출
+     * 프록시 헤더는 server.forward-headers-strategy 설정에 따라 신뢰하는 프록시에서 온 경우에만
+     * 서버가 원격 주소에 반영하므로, 클라이언트가 보낸 헤더를 직접 읽지 않습니다.
+     */
+    private String resolveClientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : null;
+    }
+}
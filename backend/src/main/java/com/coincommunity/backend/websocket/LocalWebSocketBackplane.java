@@ -0,0 +1,17 @@
+package com.coincommunity.backend.websocket;
+
+/**
+ * 단일 노드용 백플레인 (Redis 없이 현재 노드의 구독자에게만 전달)
+ * 로컬 개발이나 단일 인스턴스 배포에서 사용합니다.
+ */
+public class LocalWebSocketBackplane extends AbstractWebSocketBackplane {
+
+    public LocalWebSocketBackplane(String nodeId) {
+        super(nodeId);
+    }
+
+    @Override
+    public void publish(BackplaneMessage message) {
+        deliverLocally(stamp(message));
+    }
+}
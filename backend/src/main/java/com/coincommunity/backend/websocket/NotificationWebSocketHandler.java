@@ -1,17 +1,21 @@
 package com.coincommunity.backend.websocket;
 
+import com.coincommunity.backend.security.JwtHandshakeInterceptor;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.security.Principal;
 
 /**
  * 실시간 알림을 위한 WebSocket 핸들러
@@ -22,25 +26,75 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
     private final ObjectMapper objectMapper;
-    private final Map<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
-    private final Map<String, Long> sessionUserMap = new ConcurrentHashMap<>();
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final WebSocketBackplane webSocketBackplane;
+    private final UserSessionRegistry userSessionRegistry;
+    private final WebSocketConnectionMonitor connectionMonitor;
+
+    // 알림은 유실되면 안 되므로 기본값은 연결 종료 (재연결 시 읽지 않은 알림을 REST로 재조회)
+    @Value("${websocket.send.notification-overflow-policy:DISCONNECT}")
+    private OutboundMessageDispatcher.SlowConsumerPolicy overflowPolicy;
+
+    @PostConstruct
+    public void init() {
+        webSocketBackplane.subscribe(BackplaneMessage.Kind.USER, this::deliverToLocalUser);
+        webSocketBackplane.subscribe(BackplaneMessage.Kind.BROADCAST, this::deliverToLocalSessions);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.info("새로운 알림 WebSocket 연결이 설정되었습니다: {}", session.getId());
+        if (!connectionMonitor.track(session, () -> cleanUp(session))) {
+            closeQuietly(session, CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        outboundMessageDispatcher.register(session, overflowPolicy);
+        userSessionRegistry.add(session);
+
+        // 핸드셰이크 인터셉터가 검증한 사용자 ID (이후 전송 시 추가 조회 없음)
+        Long userId = JwtHandshakeInterceptor.getUserId(session.getAttributes());
+        if (userId == null) {
+            userId = resolveUserId(session.getPrincipal());
+        }
+        if (userId != null) {
+            registerUserSession(session.getId(), userId);
+        } else {
+            log.warn("인증 정보 없는 알림 WebSocket 연결 종료: {}", session.getId());
+            closeQuietly(session, CloseStatus.POLICY_VIOLATION);
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("알림 WebSocket 세션 종료 중 오류: {}", e.getMessage());
+        }
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         log.info("알림 WebSocket 연결이 종료되었습니다: {}", session.getId());
-        Long userId = sessionUserMap.remove(session.getId());
-        if (userId != null) {
-            userSessions.remove(userId);
-        }
+        connectionMonitor.untrack(session.getId());
+        cleanUp(session);
+    }
+
+    /**
+     * 세션 관련 상태 정리 (여러 번 호출되어도 안전)
+     */
+    private void cleanUp(WebSocketSession session) {
+        outboundMessageDispatcher.unregister(session.getId());
+        userSessionRegistry.remove(session.getId());
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        connectionMonitor.touch(session.getId());
     }
 
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        connectionMonitor.touch(session.getId());
         log.info("알림 WebSocket 메시지를 받았습니다: {}", message.getPayload());
     }
 
@@ -51,16 +105,32 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
     /**
      * 특정 사용자에게 알림을 전송합니다.
+     * 사용자가 어느 노드에 연결되어 있든 전달되도록 백플레인으로 발행합니다.
      */
     public void sendNotificationToUser(Long userId, String message) {
-        WebSocketSession session = userSessions.get(userId);
-        if (session != null && session.isOpen()) {
-            try {
-                session.sendMessage(new TextMessage(message));
-            } catch (IOException e) {
-                log.error("알림 전송 실패 (사용자 ID: {}): ", userId, e);
+        webSocketBackplane.publish(BackplaneMessage.user(userId, message));
+    }
+
+    /**
+     * 현재 노드에 연결된 사용자의 모든 세션(기기)으로 전달
+     * 대기열 등록에 실패한 세션이 있으면 예외 (전달 확인 발행에서는 재시도 대상)
+     */
+    private void deliverToLocalUser(BackplaneMessage message) {
+        Long userId = message.getUserId();
+        if (userId == null) {
+            return;
+        }
+        TextMessage textMessage = new TextMessage(message.getPayload());
+        int rejected = 0;
+        for (WebSocketSession session : userSessionRegistry.sessionsOf(userId)) {
+            if (!outboundMessageDispatcher.send(session.getId(), textMessage)) {
+                rejected++;
+                log.warn("알림 전송 대기열 등록 실패 (사용자 ID: {}, 세션ID: {})", userId, session.getId());
             }
         }
+        if (rejected > 0) {
+            throw new IllegalStateException("알림 전송 대기열 등록 실패: 사용자ID=" + userId + ", 세션=" + rejected + "개");
+        }
     }
 
     /**
@@ -77,70 +147,90 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 모든 연결된 사용자에게 브로드캐스트 알림을 전송합니다.
+     * 특정 사용자에게 알림 전송 (Outbox 전달용)
+     * 직렬화, 백플레인 발행, 현재 노드 세션의 대기열 등록 중 하나라도 실패하면 예외를 던집니다.
+     */
+    public void deliverNotification(Long userId, Object notification) {
+        String jsonMessage;
+        try {
+            jsonMessage = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 직렬화 실패: 사용자ID=" + userId, e);
+        }
+        webSocketBackplane.publishConfirmed(BackplaneMessage.user(userId, jsonMessage));
+    }
+
+    /**
+     * 모든 연결된 사용자에게 브로드캐스트 알림을 전송합니다. (모든 노드)
      */
     public void broadcastNotification(Object notification) {
         try {
             String jsonMessage = objectMapper.writeValueAsString(notification);
-            TextMessage message = new TextMessage(jsonMessage);
-            
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (WebSocketSession session : userSessions.values()) {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(message);
-                        successCount++;
-                    }
-                } catch (IOException e) {
-                    failCount++;
-                    log.warn("브로드캐스트 개별 전송 실패: 세션ID={}", session.getId());
-                }
-            }
-            
-            log.info("브로드캐스트 알림 전송 완료: 성공={}건, 실패={}건, 총세션={}개", 
-                    successCount, failCount, userSessions.size());
-                    
+            webSocketBackplane.publish(BackplaneMessage.broadcast(jsonMessage));
         } catch (Exception e) {
             log.error("브로드캐스트 알림 처리 실패", e);
         }
     }
 
+    /**
+     * 현재 노드에 연결된 모든 사용자 세션으로 브로드캐스트
+     */
+    private void deliverToLocalSessions(BackplaneMessage message) {
+        TextMessage textMessage = new TextMessage(message.getPayload());
+        
+        int successCount = 0;
+        int failCount = 0;
+        
+        for (WebSocketSession session : userSessionRegistry.allSessions()) {
+            if (outboundMessageDispatcher.send(session.getId(), textMessage)) {
+                successCount++;
+            } else {
+                failCount++;
+                log.warn("브로드캐스트 개별 전송 실패: 세션ID={}", session.getId());
+            }
+        }
+        
+        log.info("브로드캐스트 알림 전송 예약 완료: 성공={}건, 실패={}건, 총세션={}개", 
+                successCount, failCount, userSessionRegistry.getSessionCount());
+    }
+
     /**
      * 사용자 세션 등록 (연결 시 사용자 ID 매핑)
      */
     public void registerUserSession(String sessionId, Long userId) {
-        WebSocketSession session = findSessionById(sessionId);
-        if (session != null) {
-            userSessions.put(userId, session);
-            sessionUserMap.put(sessionId, userId);
+        if (userSessionRegistry.bind(sessionId, userId)) {
             log.info("사용자 세션 등록 완료: 사용자ID={}, 세션ID={}", userId, sessionId);
+        } else {
+            log.warn("등록되지 않은 세션에 사용자 연결 시도: 사용자ID={}, 세션ID={}", userId, sessionId);
         }
     }
 
     /**
-     * 세션 ID로 WebSocket 세션 찾기
+     * 핸드셰이크 시 인증된 사용자 ID 추출 (인증 주체의 username이 사용자 ID)
      */
-    private WebSocketSession findSessionById(String sessionId) {
-        return userSessions.values().stream()
-                .filter(session -> sessionId.equals(session.getId()))
-                .findFirst()
-                .orElse(null);
+    private Long resolveUserId(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal.getName());
+        } catch (NumberFormatException e) {
+            log.debug("사용자 ID로 변환할 수 없는 인증 주체: {}", principal.getName());
+            return null;
+        }
     }
 
     /**
-     * 연결된 사용자 수 조회
+     * 현재 노드에 연결된 사용자 수 조회
      */
     public int getConnectedUserCount() {
-        return userSessions.size();
+        return userSessionRegistry.getUserCount();
     }
 
     /**
-     * 특정 사용자의 연결 상태 확인
+     * 특정 사용자가 현재 노드에 연결되어 있는지 확인
      */
     public boolean isUserConnected(Long userId) {
-        WebSocketSession session = userSessions.get(userId);
-        return session != null && session.isOpen();
+        return userSessionRegistry.isConnected(userId);
     }
 }
@@ -0,0 +1,317 @@
+package com.coincommunity.backend.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션별 비동기 송신 큐
+ *
+ * 브로드캐스트 스레드가 session.sendMessage를 직접 호출하면 느린 클라이언트 하나가
+ * 전체 전송을 지연시키고, 같은 세션에 여러 스레드가 동시에 쓰는 문제가 생깁니다.
+ * 세션마다 크기가 제한된 큐를 두고 전용 스레드 풀에서 세션당 하나의 작업만 큐를 비우도록 하여
+ * 송신은 항상 단일 스레드로 직렬화되고, 브로드캐스트는 큐에 넣는 즉시 반환됩니다.
+ *
+ * - 같은 conflation 키의 메시지가 아직 전송되지 않았다면 최신 메시지로 교체 (가격 업데이트 병합)
+ * - 큐가 가득 찬 경우 세션별 정책에 따라 가장 오래된 메시지 제거 / 새 메시지 버림 / 연결 종료
+ *   (연결 종료도 송신 작업에서 처리하여 브로드캐스트 스레드가 세션에 직접 쓰지 않음)
+ * - 하트비트의 유휴 세션 종료도 같은 경로({@link #close})로 송신 작업에서 처리
+ */
+@Slf4j
+@Component
+public class OutboundMessageDispatcher {
+
+    /**
+     * 느린 소비자 처리 정책
+     */
+    public enum SlowConsumerPolicy {
+        DROP_OLDEST,  // 가장 오래된 대기 메시지 제거
+        DROP_NEWEST,  // 새 메시지 버림
+        DISCONNECT    // 연결 종료 (클라이언트 재연결 후 재동기화)
+    }
+
+    private final Executor sendExecutor;
+    private final Map<String, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter sentCounter;
+    private final Counter conflatedCounter;
+    private final Counter droppedOldestCounter;
+    private final Counter droppedNewestCounter;
+    private final Counter disconnectCounter;
+    private final Counter sendErrorCounter;
+
+    @Value("${websocket.send.queue-capacity:256}")
+    private int queueCapacity;
+
+    public OutboundMessageDispatcher(@Qualifier("webSocketSendExecutor") Executor sendExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.sendExecutor = sendExecutor;
+
+        this.sentCounter = Counter.builder("websocket.outbound.sent")
+                .description("전송 완료된 WebSocket 메시지 수").register(meterRegistry);
+        this.conflatedCounter = Counter.builder("websocket.outbound.conflated")
+                .description("최신 메시지로 교체된 미전송 메시지 수").register(meterRegistry);
+        this.droppedOldestCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("policy", "drop_oldest")
+                .description("큐 초과로 버려진 메시지 수").register(meterRegistry);
+        this.droppedNewestCounter = Counter.builder("websocket.outbound.dropped")
+                .tag("policy", "drop_newest")
+                .description("큐 초과로 버려진 메시지 수").register(meterRegistry);
+        this.disconnectCounter = Counter.builder("websocket.outbound.disconnects")
+                .description("느린 소비자로 판단되어 종료된 세션 수").register(meterRegistry);
+        this.sendErrorCounter = Counter.builder("websocket.outbound.send.errors")
+                .description("전송 실패 수").register(meterRegistry);
+
+        Gauge.builder("websocket.outbound.queue.depth", this, OutboundMessageDispatcher::getTotalQueueDepth)
+                .description("전체 세션의 대기 메시지 수").register(meterRegistry);
+        Gauge.builder("websocket.outbound.queue.depth.max", this, OutboundMessageDispatcher::getMaxQueueDepth)
+                .description("가장 많이 밀린 세션의 대기 메시지 수").register(meterRegistry);
+        Gauge.builder("websocket.outbound.sessions", outboxes, Map::size)
+                .description("송신 큐가 등록된 세션 수").register(meterRegistry);
+    }
+
+    /**
+     * 세션 송신 큐 등록
+     */
+    public void register(WebSocketSession session, SlowConsumerPolicy policy) {
+        outboxes.put(session.getId(), new SessionOutbox(session, policy));
+    }
+
+    /**
+     * 세션 송신 큐 제거 (대기 중인 메시지는 폐기)
+     */
+    public void unregister(String sessionId) {
+        SessionOutbox outbox = outboxes.remove(sessionId);
+        if (outbox != null) {
+            outbox.clear();
+        }
+    }
+
+    /**
+     * 메시지 전송 예약 (병합 없음)
+     */
+    public boolean send(String sessionId, WebSocketMessage<?> message) {
+        return send(sessionId, message, null);
+    }
+
+    /**
+     * 메시지 전송 예약
+     *
+     * @param conflationKey 같은 키의 미전송 메시지를 교체할 때 사용하는 키 (null이면 병합하지 않음)
+     * @return 큐에 들어갔으면 true
+     */
+    public boolean send(String sessionId, WebSocketMessage<?> message, Object conflationKey) {
+        SessionOutbox outbox = outboxes.get(sessionId);
+        if (outbox == null || !outbox.session.isOpen()) {
+            return false;
+        }
+        if (outbox.closing) {
+            // 종료 작업 예약이 거절된 경우를 대비해 다시 예약
+            if (!outbox.closed) {
+                scheduleDrain(outbox);
+            }
+            return false;
+        }
+        Object key = conflationKey != null ? conflationKey : sequence.incrementAndGet();
+        boolean accepted = outbox.offer(key, message);
+        if (accepted) {
+            scheduleDrain(outbox);
+        }
+        return accepted;
+    }
+
+    /**
+     * 세션 종료 요청 (대기 메시지를 버리고 송신 작업에서 종료하여 sendMessage와 겹치지 않음)
+     * 이전 종료 시도가 실패해 세션이 아직 열려 있으면 다시 시도합니다.
+     *
+     * @return 송신 큐가 등록된 세션이면 true
+     */
+    public boolean close(String sessionId) {
+        SessionOutbox outbox = outboxes.get(sessionId);
+        if (outbox == null) {
+            return false;
+        }
+        outbox.requestClose();
+        scheduleDrain(outbox);
+        return true;
+    }
+
+    public int getQueueDepth(String sessionId) {
+        SessionOutbox outbox = outboxes.get(sessionId);
+        return outbox != null ? outbox.size() : 0;
+    }
+
+    public double getTotalQueueDepth() {
+        return outboxes.values().stream().mapToInt(SessionOutbox::size).sum();
+    }
+
+    public double getMaxQueueDepth() {
+        return outboxes.values().stream().mapToInt(SessionOutbox::size).max().orElse(0);
+    }
+
+    private void scheduleDrain(SessionOutbox outbox) {
+        if (!outbox.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> drain(outbox));
+        } catch (RejectedExecutionException e) {
+            // 다음 send 호출 시 다시 예약됨
+            outbox.draining.set(false);
+            log.warn("WebSocket 송신 작업 예약 실패: 세션ID={}", outbox.session.getId());
+        }
+    }
+
+    /**
+     * 세션 큐 비우기 (세션당 동시에 하나의 작업만 실행)
+     */
+    private void drain(SessionOutbox outbox) {
+        try {
+            WebSocketMessage<?> message;
+            while (!outbox.closing && (message = outbox.poll()) != null) {
+                if (!outbox.session.isOpen()) {
+                    outbox.clear();
+                    break;
+                }
+                try {
+                    outbox.session.sendMessage(message);
+                    sentCounter.increment();
+                } catch (IOException | IllegalStateException e) {
+                    sendErrorCounter.increment();
+                    log.warn("WebSocket 메시지 전송 실패: 세션ID={}, 원인={}", outbox.session.getId(), e.getMessage());
+                }
+            }
+            if (outbox.closing && !outbox.closed) {
+                closeSlowConsumer(outbox);
+            }
+        } finally {
+            outbox.draining.set(false);
+        }
+        // 작업 종료 직전에 들어온 메시지나 종료 요청 처리
+        if ((outbox.size() > 0 || (outbox.closing && !outbox.closed)) && outbox.session.isOpen()) {
+            scheduleDrain(outbox);
+        }
+    }
+
+    /**
+     * 느린 소비자 종료 요청 (브로드캐스트 스레드에서 호출, 실제 종료는 송신 작업에서)
+     */
+    private void requestDisconnect(SessionOutbox outbox) {
+        disconnectCounter.increment();
+        log.warn("느린 WebSocket 소비자 연결 종료 요청: 세션ID={}, 대기 메시지={}개", outbox.session.getId(), outbox.size());
+        outbox.clear();
+        scheduleDrain(outbox);
+    }
+
+    /**
+     * 종료 요청된 세션 종료 (느린 소비자, 응답 없는 세션 - 송신 작업 스레드에서만 호출되어 sendMessage와 겹치지 않음)
+     */
+    private void closeSlowConsumer(SessionOutbox outbox) {
+        outbox.closed = true;
+        outbox.clear();
+        try {
+            outbox.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("느린 소비자 세션 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 하나의 송신 큐
+     * LinkedHashMap은 기존 키에 다시 put 해도 순서가 유지되므로 병합된 메시지는 원래 위치에서 전송됩니다.
+     */
+    private class SessionOutbox {
+        private final WebSocketSession session;
+        private final SlowConsumerPolicy policy;
+        private final LinkedHashMap<Object, WebSocketMessage<?>> pending = new LinkedHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        // 연결 종료 요청됨 (이후 메시지는 받지 않음) / 송신 작업에서 종료 완료
+        private volatile boolean closing;
+        private volatile boolean closed;
+
+        private SessionOutbox(WebSocketSession session, SlowConsumerPolicy policy) {
+            this.session = session;
+            this.policy = policy;
+        }
+
+        private boolean offer(Object key, WebSocketMessage<?> message) {
+            boolean disconnect = false;
+            synchronized (this) {
+                if (closing) {
+                    return false;
+                }
+                if (pending.containsKey(key)) {
+                    pending.put(key, message);
+                    conflatedCounter.increment();
+                    return true;
+                }
+                if (pending.size() >= queueCapacity) {
+                    switch (policy) {
+                        case DROP_OLDEST -> {
+                            Iterator<Object> iterator = pending.keySet().iterator();
+                            iterator.next();
+                            iterator.remove();
+                            droppedOldestCounter.increment();
+                        }
+                        case DROP_NEWEST -> {
+                            droppedNewestCounter.increment();
+                            return false;
+                        }
+                        case DISCONNECT -> {
+                            disconnect = true;
+                            closing = true;
+                        }
+                    }
+                }
+                if (!disconnect) {
+                    pending.put(key, message);
+                    return true;
+                }
+            }
+            requestDisconnect(this);
+            return false;
+        }
+
+        private synchronized void requestClose() {
+            closing = true;
+            closed = false;
+            pending.clear();
+        }
+
+        private synchronized WebSocketMessage<?> poll() {
+            Iterator<Map.Entry<Object, WebSocketMessage<?>>> iterator = pending.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            WebSocketMessage<?> message = iterator.next().getValue();
+            iterator.remove();
+            return message;
+        }
+
+        private synchronized int size() {
+            return pending.size();
+        }
+
+        private synchronized void clear() {
+            pending.clear();
+        }
+    }
+}
@@ -1,28 +1,39 @@
 package com.coincommunity.backend.websocket;
 
 import com.coincommunity.backend.dto.KimchiPremiumDto;
-import lombok.RequiredArgsConstructor;
+import com.coincommunity.backend.util.DigestAggregator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * 김치프리미엄 실시간 알림 서비스
+ * 감지된 변동은 묶음 창(premium-window-ms) 동안 모았다가 한 번에 브로드캐스트합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PremiumNotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final String PREMIUM_TOPIC = "/topic/premium-alerts";
+    private static final String DIGEST_KEY = "ALL";
+
+    private final ClusterMessagingTemplate messagingTemplate;
+
+    // 전체 구독자 대상 브로드캐스트이므로 키 하나에 코인별 알림을 모음
+    private final DigestAggregator<String, Notification> premiumDigest;
 
     // 최근 알림 내역을 저장하기 위한 맵 (코인 -> 마지막 알림 시간)
-    private final Map<String, LocalDateTime> lastNotifications = new HashMap<>();
+    private final Map<String, LocalDateTime> lastNotifications = new ConcurrentHashMap<>();
 
     // 알림 간격 (분) - 같은 코인에 대해 반복 알림을 방지
     private static final int NOTIFICATION_INTERVAL_MINUTES = 30;
@@ -31,6 +42,13 @@ public class PremiumNotificationService {
     private static final BigDecimal HIGH_PREMIUM_THRESHOLD = new BigDecimal("5.0");
     private static final BigDecimal LOW_PREMIUM_THRESHOLD = new BigDecimal("-1.0"); // 역프리미엄
 
+    public PremiumNotificationService(ClusterMessagingTemplate messagingTemplate,
+                                      @Value("${notification.digest.premium-window-ms:60000}") long premiumWindowMs,
+                                      @Value("${notification.digest.max-items:20}") int maxItems) {
+        this.messagingTemplate = messagingTemplate;
+        this.premiumDigest = new DigestAggregator<>(premiumWindowMs, maxItems);
+    }
+
     /**
      * 김치프리미엄 변동 알림 전송
      */
@@ -87,15 +105,67 @@ public class PremiumNotificationService {
                 .createdAt(now)
                 .build();
 
+        // 묶음 창에 추가 (같은 코인은 최신 값으로 합쳐짐, 전송은 flushPremiumDigest에서)
+        premiumDigest.add(DIGEST_KEY, symbol, notification, System.currentTimeMillis());
+    }
+
+    /**
+     * 창이 닫힌 김치프리미엄 알림 전송
+     * 코인이 하나면 그대로, 여러 개면 코인 목록을 담은 요약 알림 한 건으로 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval-ms:1000}")
+    public void flushPremiumDigest() {
+        List<Notification> notifications = premiumDigest.drainExpired(System.currentTimeMillis())
+                .getOrDefault(DIGEST_KEY, List.of());
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Notification outgoing = notifications.size() == 1
+                ? notifications.get(0)
+                : createSummary(notifications);
+
         // 웹소켓으로 알림 전송
         try {
-            messagingTemplate.convertAndSend("/topic/premium-alerts", notification);
-            log.info("김치프리미엄 알림 전송 성공: {}", message);
+            messagingTemplate.convertAndSend(PREMIUM_TOPIC, outgoing);
+            log.info("김치프리미엄 알림 전송 성공: {}", outgoing.getMessage());
 
             // 마지막 알림 시간 업데이트
-            lastNotifications.put(symbol, now);
+            for (Notification notification : notifications) {
+                lastNotifications.put((String) notification.getData().get("symbol"), notification.getCreatedAt());
+            }
         } catch (Exception e) {
             log.error("김치프리미엄 알림 전송 실패", e);
         }
     }
+
+    /**
+     * 여러 코인의 김치프리미엄 알림을 요약 알림으로 합침
+     */
+    private Notification createSummary(List<Notification> notifications) {
+        List<String> symbols = new ArrayList<>(notifications.size());
+        List<Map<String, Object>> items = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            symbols.add((String) notification.getData().get("symbol"));
+            items.add(notification.getData());
+        }
+
+        Map<String, Object> summaryData = new HashMap<>();
+        summaryData.put("symbols", symbols);
+        summaryData.put("items", items);
+
+        String message = notifications.stream()
+                .map(notification -> String.format("%s %.2f%%",
+                        notification.getData().get("symbol"),
+                        notification.getData().get("premiumRate")))
+                .collect(Collectors.joining(", "));
+
+        return Notification.builder()
+                .title(String.format("김치프리미엄 변동 요약 (%d개)", notifications.size()))
+                .message(message)
+                .type("premium-alert")
+                .data(summaryData)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,111 @@
+package com.coincommunity.backend.websocket;
+
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.coincommunity.backend.service.PriceBook;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가격 델타 스트림
+ *
+ * 프레임을 내보낼 때마다 스트림 시퀀스를 1씩 증가시키고, 마지막으로 내보낸 값과 비교해
+ * 변경된 필드만 델타로 만듭니다. 최근 델타 배치를 보관하여 재연결한 클라이언트가
+ * 마지막 시퀀스 이후의 변경분만 받아 복구할 수 있도록 합니다.
+ *
+ * 스트림 ID는 서버 기동 시마다 새로 발급되며, 재시작 이전의 시퀀스로 요청하면 스냅샷을 보내야 합니다.
+ */
+@Component
+public class PriceDeltaStream {
+
+    @Getter
+    private final String streamId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<String, CoinPriceDto.RealtimeUpdate> lastPublished = new HashMap<>();
+    private final ArrayDeque<DeltaBatch> history = new ArrayDeque<>();
+    private long sequence;
+
+    @Value("${websocket.price-stream.history-size:120}")
+    private int historySize;
+
+    /**
+     * 업데이트를 스트림에 반영하고 새 시퀀스의 델타 배치를 반환 (변경이 없으면 null)
+     */
+    public synchronized DeltaBatch advance(List<CoinPriceDto.RealtimeUpdate> updates) {
+        List<CoinPriceDto.PriceDelta> deltas = new ArrayList<>(updates.size());
+        for (CoinPriceDto.RealtimeUpdate update : updates) {
+            String key = PriceBook.key(update.getCoinId(), update.getExchange());
+            CoinPriceDto.PriceDelta delta = CoinPriceDto.PriceDelta.between(lastPublished.get(key), update);
+            if (delta != null) {
+                lastPublished.put(key, update);
+                deltas.add(delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return null;
+        }
+
+        DeltaBatch batch = new DeltaBatch(++sequence, Collections.unmodifiableList(deltas));
+        history.addLast(batch);
+        while (history.size() > historySize) {
+            history.removeFirst();
+        }
+        return batch;
+    }
+
+    /**
+     * 마지막으로 내보낸 시퀀스
+     */
+    public synchronized long currentSequence() {
+        return sequence;
+    }
+
+    /**
+     * 지정한 시퀀스 이후의 변경분을 코인/거래소별로 합쳐 반환
+     * 이력이 남아 있지 않거나 알 수 없는 시퀀스이면 빈 Optional (스냅샷 필요)
+     */
+    public synchronized Optional<List<CoinPriceDto.PriceDelta>> changesSince(String clientStreamId, long since) {
+        if (!streamId.equals(clientStreamId) || since > sequence || since < 0) {
+            return Optional.empty();
+        }
+        if (since < sequence && (history.isEmpty() || history.peekFirst().getSequence() > since + 1)) {
+            return Optional.empty();
+        }
+
+        Map<String, CoinPriceDto.PriceDelta> merged = new LinkedHashMap<>();
+        for (DeltaBatch batch : history) {
+            if (batch.getSequence() <= since) {
+                continue;
+            }
+            for (CoinPriceDto.PriceDelta delta : batch.getDeltas()) {
+                merged.merge(PriceBook.key(delta.getCoinId(), delta.getExchange()), delta,
+                        CoinPriceDto.PriceDelta::mergedWith);
+            }
+        }
+        return Optional.of(new ArrayList<>(merged.values()));
+    }
+
+    /**
+     * 한 번의 프레임 전송에 해당하는 델타 묶음
+     */
+    @Getter
+    public static class DeltaBatch {
+        private final long sequence;
+        private final List<CoinPriceDto.PriceDelta> deltas;
+
+        private DeltaBatch(long sequence, List<CoinPriceDto.PriceDelta> deltas) {
+            this.sequence = sequence;
+            this.deltas = deltas;
+        }
+    }
+}
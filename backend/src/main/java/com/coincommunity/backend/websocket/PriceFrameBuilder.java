@@ -0,0 +1,139 @@
+package com.coincommunity.backend.websocket;
+
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 코인 가격 스트림 프레임 생성기
+ *
+ * 프레임은 세션마다 다른 헤더(시퀀스, 이전 시퀀스)와 여러 세션이 공유하는 본문(가격 항목 목록)으로
+ * 나뉩니다. 본문은 같은 항목을 받는 세션 묶음마다 한 번만 직렬화하고 헤더만 세션별로 붙입니다.
+ *
+ * JSON 프레임: {"type":"snapshot|delta","stream":...,"seq":N,"prev":M,"timestamp":...,"prices":[PriceDelta...]}
+ * 클라이언트는 prev가 마지막으로 적용한 seq와 다르면 resync를 요청합니다.
+ *
+ * 바이너리 프레임 (big-endian, 문자열은 DataOutput.writeUTF 형식):
+ * <pre>
+ * byte   magic (0x50 'P')
+ * byte   version (3)
+ * byte   프레임 종류 (0: snapshot, 1: delta)
+ * utf    stream
+ * long   seq
+ * long   prev (없으면 -1)
+ * long   프레임 생성 시각 (epoch ms)
+ * int    항목 수
+ * 항목마다:
+ *   utf    coinId
+ *   utf    exchange
+ *   byte   필드 마스크 (0x01: currentPrice, 0x02: priceChangePercent)
+ *   double currentPrice (마스크에 포함된 경우)
+ *   double priceChangePercent (마스크에 포함된 경우)
+ * </pre>
+ * 이름 필드는 바이너리 프레임에 포함하지 않으므로 클라이언트가 코인 목록 API로 보완합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceFrameBuilder {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String DELTA = "delta";
+    public static final byte BINARY_MAGIC = 0x50;
+    public static final byte BINARY_VERSION = 3;
+
+    private static final int FIELD_PRICE = 0x01;
+    private static final int FIELD_CHANGE_PERCENT = 0x02;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 여러 세션이 공유할 JSON 본문 (가격 항목 배열)
+     */
+    public String encodeTextBody(List<CoinPriceDto.PriceDelta> entries) {
+        try {
+            return objectMapper.writeValueAsString(entries);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("가격 프레임 직렬화에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 세션별 헤더를 붙인 JSON 프레임
+     */
+    public TextMessage buildText(String type, String stream, long seq, Long prev, String body) {
+        CoinPriceDto.PriceFrame frame = CoinPriceDto.PriceFrame.builder()
+                .type(type)
+                .stream(stream)
+                .seq(seq)
+                .prev(prev)
+                .timestamp(LocalDateTime.now())
+                .prices(body)
+                .build();
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("가격 프레임 직렬화에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 여러 세션이 공유할 바이너리 본문 (항목 수 + 항목 목록)
+     */
+    public byte[] encodeBinaryBody(List<CoinPriceDto.PriceDelta> entries) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4 + entries.size() * 40);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            // 전체 스냅샷은 65535개를 넘을 수 있으므로 short가 아닌 int로 기록
+            out.writeInt(entries.size());
+            for (CoinPriceDto.PriceDelta entry : entries) {
+                out.writeUTF(nullToEmpty(entry.getCoinId()));
+                out.writeUTF(nullToEmpty(entry.getExchange()));
+                int mask = (entry.getCurrentPrice() != null ? FIELD_PRICE : 0)
+                        | (entry.getPriceChangePercent() != null ? FIELD_CHANGE_PERCENT : 0);
+                out.writeByte(mask);
+                if (entry.getCurrentPrice() != null) {
+                    out.writeDouble(entry.getCurrentPrice().doubleValue());
+                }
+                if (entry.getPriceChangePercent() != null) {
+                    out.writeDouble(entry.getPriceChangePercent().doubleValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("바이너리 가격 프레임 생성에 실패했습니다", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 세션별 헤더를 붙인 바이너리 프레임
+     */
+    public BinaryMessage buildBinary(String type, String stream, long seq, Long prev, byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(40 + body.length);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(BINARY_MAGIC);
+            out.writeByte(BINARY_VERSION);
+            out.writeByte(SNAPSHOT.equals(type) ? 0 : 1);
+            out.writeUTF(stream);
+            out.writeLong(seq);
+            out.writeLong(prev != null ? prev : -1L);
+            out.writeLong(System.currentTimeMillis());
+            out.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("바이너리 가격 프레임 생성에 실패했습니다", e);
+        }
+        return new BinaryMessage(buffer.toByteArray());
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
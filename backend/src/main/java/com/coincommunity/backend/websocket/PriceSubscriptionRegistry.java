@@ -0,0 +1,191 @@
+package com.coincommunity.backend.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코인 가격 WebSocket 구독 레지스트리
+ *
+ * 세션별 구독 심볼/거래소와 심볼 → 세션 역색인을 함께 유지하여,
+ * 가격 틱 하나를 관심 있는 세션에게만 전달할 수 있도록 합니다.
+ *
+ * - 아직 subscribe 요청을 보내지 않은 세션은 기존 동작과 동일하게 전체 심볼을 수신합니다.
+ * - 심볼 "*"을 구독하면 전체 심볼을 수신합니다.
+ * - 거래소 목록이 비어 있으면 모든 거래소를 수신합니다.
+ */
+@Slf4j
+@Component
+public class PriceSubscriptionRegistry {
+
+    public static final String ALL_SYMBOLS = "*";
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionsBySymbol = new ConcurrentHashMap<>();
+    private final Set<String> allSymbolSessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 신규 세션 등록 (전체 심볼 수신 상태로 시작)
+     */
+    public void register(String sessionId) {
+        subscriptions.put(sessionId, new Subscription(true));
+        allSymbolSessions.add(sessionId);
+    }
+
+    /**
+     * 세션 제거
+     */
+    public synchronized void remove(String sessionId) {
+        Subscription subscription = subscriptions.remove(sessionId);
+        allSymbolSessions.remove(sessionId);
+        if (subscription != null) {
+            subscription.symbols.forEach(symbol -> removeFromIndex(symbol, sessionId));
+        }
+    }
+
+    /**
+     * 심볼/거래소 구독
+     * 최초 구독 요청 시 기본 전체 수신 상태를 해제하고 요청한 심볼만 수신합니다.
+     */
+    public synchronized Set<String> subscribe(String sessionId, Collection<String> symbols, Collection<String> exchanges) {
+        Subscription subscription = subscriptions.computeIfAbsent(sessionId, id -> new Subscription(false));
+
+        if (subscription.implicitAll) {
+            subscription.implicitAll = false;
+            allSymbolSessions.remove(sessionId);
+        }
+
+        for (String symbol : normalize(symbols)) {
+            if (ALL_SYMBOLS.equals(symbol)) {
+                allSymbolSessions.add(sessionId);
+            } else if (subscription.symbols.add(symbol)) {
+                sessionsBySymbol.computeIfAbsent(symbol, s -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            }
+        }
+        if (exchanges != null && !exchanges.isEmpty()) {
+            subscription.exchanges = Collections.unmodifiableSet(normalize(exchanges));
+        }
+
+        log.debug("구독 갱신: session={}, symbols={}, exchanges={}", sessionId, subscription.symbols, subscription.exchanges);
+        return currentSymbols(sessionId, subscription);
+    }
+
+    /**
+     * 심볼 구독 해제 ("*" 해제 시 전체 수신 해제)
+     */
+    public synchronized Set<String> unsubscribe(String sessionId, Collection<String> symbols) {
+        Subscription subscription = subscriptions.get(sessionId);
+        if (subscription == null) {
+            return Collections.emptySet();
+        }
+        if (subscription.implicitAll) {
+            subscription.implicitAll = false;
+            allSymbolSessions.remove(sessionId);
+        }
+
+        for (String symbol : normalize(symbols)) {
+            if (ALL_SYMBOLS.equals(symbol)) {
+                allSymbolSessions.remove(sessionId);
+            } else if (subscription.symbols.remove(symbol)) {
+                removeFromIndex(symbol, sessionId);
+            }
+        }
+        return currentSymbols(sessionId, subscription);
+    }
+
+    /**
+     * 특정 심볼/거래소 가격을 받아야 하는 세션 ID 목록
+     */
+    public Set<String> sessionsFor(String symbol, String exchange) {
+        Set<String> symbolSessions = symbol == null
+                ? Collections.emptySet()
+                : sessionsBySymbol.getOrDefault(normalize(symbol), Collections.emptySet());
+        Set<String> result = new HashSet<>(symbolSessions.size() + allSymbolSessions.size());
+        String normalizedExchange = normalize(exchange);
+
+        addMatching(result, allSymbolSessions, normalizedExchange);
+        addMatching(result, symbolSessions, normalizedExchange);
+        return result;
+    }
+
+    /**
+     * 세션이 특정 심볼/거래소 가격을 받는지 여부
+     */
+    public boolean isSubscribed(String sessionId, String symbol, String exchange) {
+        Subscription subscription = subscriptions.get(sessionId);
+        if (subscription == null || !subscription.acceptsExchange(normalize(exchange))) {
+            return false;
+        }
+        return allSymbolSessions.contains(sessionId) || subscription.symbols.contains(normalize(symbol));
+    }
+
+    /**
+     * 심볼별 구독 세션 수 (모니터링용)
+     */
+    public int getSubscriberCount(String symbol) {
+        return sessionsBySymbol.getOrDefault(normalize(symbol), Collections.emptySet()).size() + allSymbolSessions.size();
+    }
+
+    private void addMatching(Set<String> result, Set<String> candidates, String exchange) {
+        for (String sessionId : candidates) {
+            Subscription subscription = subscriptions.get(sessionId);
+            if (subscription != null && subscription.acceptsExchange(exchange)) {
+                result.add(sessionId);
+            }
+        }
+    }
+
+    private Set<String> currentSymbols(String sessionId, Subscription subscription) {
+        Set<String> result = new HashSet<>(subscription.symbols);
+        if (allSymbolSessions.contains(sessionId)) {
+            result.add(ALL_SYMBOLS);
+        }
+        return result;
+    }
+
+    private void removeFromIndex(String symbol, String sessionId) {
+        sessionsBySymbol.computeIfPresent(symbol, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private Set<String> normalize(Collection<String> values) {
+        Set<String> result = new HashSet<>();
+        if (values != null) {
+            values.stream()
+                    .filter(value -> value != null && !value.isBlank())
+                    .forEach(value -> result.add(normalize(value)));
+        }
+        return result;
+    }
+
+    private String normalize(String value) {
+        return value == null ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 세션 하나의 구독 상태
+     */
+    private static class Subscription {
+        private final Set<String> symbols = ConcurrentHashMap.newKeySet();
+        private volatile Set<String> exchanges = Collections.emptySet();
+        private volatile boolean implicitAll;
+
+        private Subscription(boolean implicitAll) {
+            this.implicitAll = implicitAll;
+        }
+
+        private boolean acceptsExchange(String exchange) {
+            Set<String> current = exchanges;
+            return current.isEmpty() || exchange == null || current.contains(exchange);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.coincommunity.backend.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Redis Pub/Sub 기반 백플레인
+ *
+ * 메시지 종류별 채널(접두사 + kind)로 발행하고, 모든 노드가 접두사 패턴을 구독합니다.
+ * 발행 노드는 Redis를 거치지 않고 즉시 로컬 구독자에게 전달하며, Redis로 되돌아온
+ * 자기 메시지는 무시합니다. 따라서 Redis 장애 시에도 현재 노드의 세션에는 계속 전달됩니다.
+ *
+ * Pub/Sub은 전달을 보장하지 않으므로 가격은 델타 스트림의 resync로,
+ * 알림은 재연결 시 REST 재조회로 누락분을 보완합니다.
+ */
+@Slf4j
+public class RedisWebSocketBackplane extends AbstractWebSocketBackplane
+        implements MessageListener, InitializingBean, DisposableBean {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channelPrefix;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+    public RedisWebSocketBackplane(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                   String channelPrefix, String nodeId) {
+        super(nodeId);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channelPrefix = channelPrefix;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        listenerContainer.addMessageListener(this, new PatternTopic(channelPrefix + "*"));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Redis WebSocket 백플레인 시작: node={}, channel={}*", getNodeId(), channelPrefix);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void publish(BackplaneMessage message) {
+        BackplaneMessage stamped = stamp(message);
+        deliverLocally(stamped);
+        try {
+            redisTemplate.convertAndSend(channel(stamped.getKind()), objectMapper.writeValueAsString(stamped));
+        } catch (Exception e) {
+            log.warn("백플레인 메시지 발행 실패 (현재 노드에만 전달됨): kind={}, 원인={}", stamped.getKind(), e.getMessage());
+        }
+    }
+
+    @Override
+    protected void publishToOtherNodes(BackplaneMessage stamped) {
+        try {
+            redisTemplate.convertAndSend(channel(stamped.getKind()), objectMapper.writeValueAsString(stamped));
+        } catch (Exception e) {
+            throw new IllegalStateException("백플레인 메시지 발행 실패: kind=" + stamped.getKind(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            BackplaneMessage received = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), BackplaneMessage.class);
+            if (received.getKind() == null || getNodeId().equals(received.getOrigin())) {
+                return;
+            }
+            deliverLocally(received);
+        } catch (Exception e) {
+            log.warn("백플레인 메시지 해석 실패: channel={}, 원인={}",
+                    new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
+    private String channel(BackplaneMessage.Kind kind) {
+        return channelPrefix + kind.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,121 @@
+package com.coincommunity.backend.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 WebSocket 세션 레지스트리
+ *
+ * 세션 ID → 세션, 사용자 ID → 세션 ID 집합을 함께 유지하여
+ * 세션 등록/해제와 사용자별 조회를 모두 O(1)로 처리합니다.
+ * 한 사용자가 여러 기기(탭)로 접속하면 모든 세션이 사용자에게 묶입니다.
+ */
+@Slf4j
+@Component
+public class UserSessionRegistry {
+
+    private final Map<String, WebSocketSession> sessionsById = new ConcurrentHashMap<>();
+    private final Map<String, Long> userBySession = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionIdsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 등록 (사용자 미확인 상태)
+     */
+    public void add(WebSocketSession session) {
+        sessionsById.put(session.getId(), session);
+    }
+
+    /**
+     * 등록된 세션을 사용자에게 연결
+     *
+     * @return 세션이 등록되어 있어 연결에 성공하면 true
+     */
+    public boolean bind(String sessionId, Long userId) {
+        if (!sessionsById.containsKey(sessionId)) {
+            return false;
+        }
+        Long previous = userBySession.put(sessionId, userId);
+        if (previous != null && !previous.equals(userId)) {
+            unbindFromUser(previous, sessionId);
+        }
+        sessionIdsByUser.compute(userId, (id, sessionIds) -> {
+            Set<String> result = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            result.add(sessionId);
+            return result;
+        });
+        // 연결 직후 종료된 경우 remove와 경합할 수 있으므로 다시 확인
+        if (!sessionsById.containsKey(sessionId)) {
+            unbindFromUser(userId, sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 세션 제거
+     *
+     * @return 세션에 연결되어 있던 사용자 ID (없으면 null)
+     */
+    public Long remove(String sessionId) {
+        sessionsById.remove(sessionId);
+        Long userId = userBySession.remove(sessionId);
+        if (userId != null) {
+            unbindFromUser(userId, sessionId);
+        }
+        return userId;
+    }
+
+    /**
+     * 사용자의 열려 있는 세션 목록
+     */
+    public List<WebSocketSession> sessionsOf(Long userId) {
+        Set<String> sessionIds = sessionIdsByUser.getOrDefault(userId, Collections.emptySet());
+        List<WebSocketSession> result = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            WebSocketSession session = sessionsById.get(sessionId);
+            if (session != null && session.isOpen()) {
+                result.add(session);
+            }
+        }
+        return result;
+    }
+
+    public Long userOf(String sessionId) {
+        return userBySession.get(sessionId);
+    }
+
+    public boolean isConnected(Long userId) {
+        return !sessionsOf(userId).isEmpty();
+    }
+
+    /**
+     * 현재 노드의 전체 세션
+     */
+    public Collection<WebSocketSession> allSessions() {
+        return Collections.unmodifiableCollection(sessionsById.values());
+    }
+
+    public int getUserCount() {
+        return sessionIdsByUser.size();
+    }
+
+    public int getSessionCount() {
+        return sessionsById.size();
+    }
+
+    private void unbindFromUser(Long userId, String sessionId) {
+        sessionIdsByUser.computeIfPresent(userId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.coincommunity.backend.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * WebSocket 클러스터 백플레인
+ * 한 노드에서 발생한 가격/알림/토픽 메시지를 모든 노드의 로컬 세션에 전달합니다.
+ */
+public interface WebSocketBackplane {
+
+    /**
+     * 현재 노드 ID
+     */
+    String getNodeId();
+
+    /**
+     * 메시지 발행 (현재 노드를 포함한 모든 노드의 구독자에게 전달)
+     */
+    void publish(BackplaneMessage message);
+
+    /**
+     * 전달 확인이 필요한 메시지 발행
+     * 다른 노드로의 발행이나 현재 노드 구독자 처리에 실패하면 예외를 던집니다. (Outbox 등 재시도가 필요한 경로)
+     */
+    void publishConfirmed(BackplaneMessage message);
+
+    /**
+     * 메시지 종류별 로컬 구독자 등록
+     */
+    void subscribe(BackplaneMessage.Kind kind, Consumer<BackplaneMessage> listener);
+}
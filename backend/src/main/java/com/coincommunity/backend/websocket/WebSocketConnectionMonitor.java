@@ -0,0 +1,228 @@
+package com.coincommunity.backend.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 연결 상태 감시 및 수용량 제한
+ *
+ * - 주기적으로 Ping을 보내고, 일정 시간 동안 Pong이나 메시지가 없는 세션은 half-open으로 보고 송신 큐를 통해 종료
+ * - 이미 닫혔는데 종료 콜백이 오지 않은 세션 정리
+ * - 전체/IP별 동시 연결 수 제한 (핸드셰이크 단계에서 확인하고 연결 시 다시 확인)
+ */
+@Slf4j
+@Component
+public class WebSocketConnectionMonitor {
+
+    public static final String CLIENT_IP_ATTRIBUTE = "clientIp";
+
+    // Ping이 대기 중이면 새 Ping으로 교체되도록 같은 병합 키 사용
+    private static final String PING_CONFLATION_KEY = "heartbeat-ping";
+
+    private final OutboundMessageDispatcher outboundMessageDispatcher;
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> connectionsByIp = new ConcurrentHashMap<>();
+    private final AtomicInteger idleSessions = new AtomicInteger();
+
+    private final Counter reapedIdleCounter;
+    private final Counter reapedClosedCounter;
+    private final Counter rejectedGlobalCounter;
+    private final Counter rejectedPerIpCounter;
+
+    @Value("${websocket.heartbeat.interval-ms:25000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${websocket.heartbeat.idle-timeout-ms:75000}")
+    private long idleTimeoutMs;
+
+    @Value("${websocket.limits.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${websocket.limits.max-connections-per-ip:20}")
+    private int maxConnectionsPerIp;
+
+    public WebSocketConnectionMonitor(OutboundMessageDispatcher outboundMessageDispatcher, MeterRegistry meterRegistry) {
+        this.outboundMessageDispatcher = outboundMessageDispatcher;
+
+        this.reapedIdleCounter = Counter.builder("websocket.sessions.reaped")
+                .tag("reason", "idle")
+                .description("응답이 없어 종료된 세션 수").register(meterRegistry);
+        this.reapedClosedCounter = Counter.builder("websocket.sessions.reaped")
+                .tag("reason", "closed")
+                .description("종료 콜백 없이 닫혀 정리된 세션 수").register(meterRegistry);
+        this.rejectedGlobalCounter = Counter.builder("websocket.connections.rejected")
+                .tag("reason", "global")
+                .description("연결 수 제한으로 거부된 연결 수").register(meterRegistry);
+        this.rejectedPerIpCounter = Counter.builder("websocket.connections.rejected")
+                .tag("reason", "per_ip")
+                .description("연결 수 제한으로 거부된 연결 수").register(meterRegistry);
+
+        Gauge.builder("websocket.sessions.active", sessions, Map::size)
+                .description("감시 중인 WebSocket 세션 수").register(meterRegistry);
+        Gauge.builder("websocket.sessions.idle", idleSessions, AtomicInteger::get)
+                .description("최근 하트비트 주기 동안 응답이 없던 세션 수").register(meterRegistry);
+    }
+
+    /**
+     * 핸드셰이크 단계의 수용 가능 여부 확인
+     */
+    public boolean canAccept(String clientIp) {
+        if (sessions.size() >= maxConnections) {
+            rejectedGlobalCounter.increment();
+            return false;
+        }
+        if (clientIp != null && connectionCount(clientIp) >= maxConnectionsPerIp) {
+            rejectedPerIpCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 연결된 세션 감시 시작
+     *
+     * @param cleanup 종료 콜백 없이 닫힌 세션을 정리할 때 실행할 작업
+     * @return 연결 수 제한을 넘어 세션을 받을 수 없으면 false (호출 측에서 연결 종료)
+     */
+    public boolean track(WebSocketSession session, Runnable cleanup) {
+        String clientIp = (String) session.getAttributes().get(CLIENT_IP_ATTRIBUTE);
+        String ipKey = clientIp != null ? clientIp : "unknown";
+
+        // 핸드셰이크 확인 이후 동시에 들어온 연결이 있을 수 있으므로 카운트를 올린 뒤 다시 확인
+        int ipCount = connectionsByIp.compute(ipKey, (ip, count) -> {
+            AtomicInteger result = count != null ? count : new AtomicInteger();
+            result.incrementAndGet();
+            return result;
+        }).get();
+        boolean overGlobal = sessions.size() >= maxConnections;
+        if (overGlobal || (clientIp != null && ipCount > maxConnectionsPerIp)) {
+            releaseIp(ipKey);
+            (overGlobal ? rejectedGlobalCounter : rejectedPerIpCounter).increment();
+            log.warn("WebSocket 연결 수 제한 초과로 연결 거부: 세션ID={}, IP={}", session.getId(), ipKey);
+            return false;
+        }
+        sessions.put(session.getId(), new TrackedSession(session, ipKey, cleanup));
+        return true;
+    }
+
+    /**
+     * 세션 감시 종료
+     *
+     * @return 감시 중이던 세션이면 true
+     */
+    public boolean untrack(String sessionId) {
+        TrackedSession tracked = sessions.remove(sessionId);
+        if (tracked == null) {
+            return false;
+        }
+        releaseIp(tracked.clientIp);
+        return true;
+    }
+
+    /**
+     * 클라이언트 활동 기록 (메시지, Pong 수신)
+     */
+    public void touch(String sessionId) {
+        TrackedSession tracked = sessions.get(sessionId);
+        if (tracked != null) {
+            tracked.lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 하트비트: Ping 전송, 응답 없는 세션 종료, 이미 닫힌 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${websocket.heartbeat.interval-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        int idle = 0;
+
+        for (TrackedSession tracked : sessions.values()) {
+            WebSocketSession session = tracked.session;
+            long silentFor = now - tracked.lastActivity;
+
+            if (!session.isOpen()) {
+                reap(tracked);
+                (tracked.closeRequested ? reapedIdleCounter : reapedClosedCounter).increment();
+            } else if (silentFor > idleTimeoutMs) {
+                if (!tracked.closeRequested) {
+                    log.info("응답 없는 WebSocket 세션 종료: 세션ID={}, 무응답={}ms", session.getId(), silentFor);
+                    tracked.closeRequested = true;
+                }
+                // 송신 작업과 겹치지 않도록 송신 큐를 통해 종료 (아직 열려 있으면 다음 주기에 다시 요청)
+                // 세션은 실제로 닫힌 뒤 종료 콜백이나 다음 주기에서 정리
+                if (!outboundMessageDispatcher.close(session.getId())) {
+                    closeQuietly(session);
+                }
+            } else {
+                if (silentFor > heartbeatIntervalMs) {
+                    idle++;
+                }
+                outboundMessageDispatcher.send(session.getId(), new PingMessage(), PING_CONFLATION_KEY);
+            }
+        }
+        idleSessions.set(idle);
+    }
+
+    private void reap(TrackedSession tracked) {
+        if (untrack(tracked.session.getId())) {
+            try {
+                tracked.cleanup.run();
+            } catch (Exception e) {
+                log.warn("WebSocket 세션 정리 중 오류: 세션ID={}", tracked.session.getId(), e);
+            }
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("WebSocket 세션 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private int connectionCount(String clientIp) {
+        AtomicInteger count = connectionsByIp.get(clientIp);
+        return count != null ? count.get() : 0;
+    }
+
+    private void releaseIp(String clientIp) {
+        connectionsByIp.computeIfPresent(clientIp, (ip, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    /**
+     * 감시 중인 세션 상태
+     */
+    private static final class TrackedSession {
+        private final WebSocketSession session;
+        private final String clientIp;
+        private final Runnable cleanup;
+        private volatile long lastActivity = System.currentTimeMillis();
+        // 하트비트 스레드 전용 (유휴 종료를 요청한 세션)
+        private boolean closeRequested;
+
+        private TrackedSession(WebSocketSession session, String clientIp, Runnable cleanup) {
+            this.session = session;
+            this.clientIp = clientIp;
+            this.cleanup = cleanup;
+        }
+    }
+}
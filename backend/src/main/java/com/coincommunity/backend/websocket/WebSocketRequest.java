@@ -3,6 +3,8 @@ package com.coincommunity.backend.websocket;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * 클라이언트로부터 받은 WebSocket 요청을 위한 DTO
  */
@@ -11,7 +13,7 @@ import lombok.Setter;
 public class WebSocketRequest {
     
     /**
-     * 요청 타입 (예: subscribe, unsubscribe)
+     * 요청 타입 (예: subscribe, unsubscribe, resync)
      */
     private String type;
     
@@ -20,6 +22,31 @@ public class WebSocketRequest {
      */
     private String coinId;
     
+    /**
+     * 구독/해제할 코인 심볼 목록 ("*"은 전체)
+     */
+    private List<String> symbols;
+    
+    /**
+     * 수신할 거래소 목록 (비어 있으면 전체 거래소)
+     */
+    private List<String> exchanges;
+    
+    /**
+     * 가격 프레임 형식 (json 또는 binary, 생략 시 기존 형식 유지)
+     */
+    private String format;
+    
+    /**
+     * 클라이언트가 마지막으로 적용한 가격 스트림 시퀀스 (재연결/재동기화 시)
+     */
+    private Long since;
+    
+    /**
+     * 클라이언트가 마지막으로 수신한 가격 스트림 ID (서버 재시작 여부 판단)
+     */
+    private String stream;
+    
     /**
      * 추가 데이터 (필요에 따라 사용)
      */
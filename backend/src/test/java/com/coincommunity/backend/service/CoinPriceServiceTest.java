@@ -0,0 +1,140 @@
+package com.coincommunity.backend.service;
+
+import com.coincommunity.backend.config.AdvancedCacheConfig;
+import com.coincommunity.backend.dto.CoinPriceDto;
+import com.coincommunity.backend.exception.ResourceNotFoundException;
+import com.coincommunity.backend.repository.CoinPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가격 툼스톤이 롤백되는 트랜잭션 안에서도 기록되는지 확인
+ *
+ * 운영과 같은 AdvancedCacheConfig 캐시 매니저(통계 래퍼 → 트랜잭션 인지 RedisCache)를 사용하고,
+ * Redis 연결만 메모리 저장소로 대신합니다.
+ */
+class CoinPriceServiceTest {
+
+    private final Map<String, byte[]> redisStore = new ConcurrentHashMap<>();
+
+    private CoinPriceRepository coinPriceRepository;
+    private CoinPriceService coinPriceService;
+    private CacheManager cacheManager;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        coinPriceRepository = mock(CoinPriceRepository.class);
+        when(coinPriceRepository.findByCoinIdAndExchangeIn(anyString(), anyCollection())).thenReturn(List.of());
+
+        AdvancedCacheConfig cacheConfig = new AdvancedCacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "negativeResultTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cacheConfig, "defaultTtlSeconds", 3600L);
+
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        cacheManager = cacheConfig.cacheManager(inMemoryConnectionFactory(),
+                new CacheMetricsService(new SimpleMeterRegistry(), redisTemplate),
+                new CacheBudgetService(redisTemplate, ""));
+
+        coinPriceService = new CoinPriceService(coinPriceRepository, new NegativeResultCache(cacheManager));
+        transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    @Test
+    void tombstoneSurvivesRolledBackTransaction() {
+        // 첫 조회: 트랜잭션 안에서 예외 -> 롤백
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                coinPriceService.getCoinPriceByExchange("NOPE", "UPBIT")))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        Cache tombstones = cacheManager.getCache(NegativeResultCache.COIN_PRICE_TOMBSTONES);
+        assertThat(tombstones.get("NOPE-UPBIT", CoinPriceDto.PriceTombstone.class)).isNotNull();
+        assertThat(tombstones.get("NOPE-COINGECKO", CoinPriceDto.PriceTombstone.class)).isNotNull();
+
+        // 두 번째 조회: 툼스톤으로 DB 조회 없이 예외
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                coinPriceService.getCoinPriceByExchange("NOPE", "UPBIT")))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(coinPriceRepository, times(1)).findByCoinIdAndExchangeIn(anyString(), anyCollection());
+    }
+
+    /**
+     * GET/SET만 메모리 맵으로 처리하는 Redis 연결
+     */
+    private RedisConnectionFactory inMemoryConnectionFactory() {
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(stringCommands.get(any())).thenAnswer(invocation -> redisStore.get(keyOf(invocation.getArgument(0))));
+        when(stringCommands.getEx(any(), any())).thenAnswer(invocation -> redisStore.get(keyOf(invocation.getArgument(0))));
+        when(stringCommands.set(any(), any())).thenAnswer(invocation -> {
+            redisStore.put(keyOf(invocation.getArgument(0)), invocation.getArgument(1));
+            return true;
+        });
+        when(stringCommands.set(any(), any(), any(), any())).thenAnswer(invocation -> {
+            redisStore.put(keyOf(invocation.getArgument(0)), invocation.getArgument(1));
+            return true;
+        });
+
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        return connectionFactory;
+    }
+
+    private static String keyOf(byte[] key) {
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 실제 자원 없이 트랜잭션 동기화(커밋/롤백 콜백)만 수행하는 트랜잭션 매니저
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.coincommunity.backend.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단일 노드 백플레인의 전달과 실패 처리 확인
+ */
+class LocalWebSocketBackplaneTest {
+
+    private final LocalWebSocketBackplane backplane = new LocalWebSocketBackplane("node-a");
+
+    @Test
+    void publishStampsOriginAndDeliversToSubscribersOfKind() {
+        List<BackplaneMessage> received = new ArrayList<>();
+        List<BackplaneMessage> otherKind = new ArrayList<>();
+        backplane.subscribe(BackplaneMessage.Kind.USER, received::add);
+        backplane.subscribe(BackplaneMessage.Kind.PRICES, otherKind::add);
+
+        backplane.publish(BackplaneMessage.user(1L, "{}"));
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getOrigin()).isEqualTo("node-a");
+        assertThat(otherKind).isEmpty();
+    }
+
+    @Test
+    void publishSwallowsSubscriberFailure() {
+        List<BackplaneMessage> received = new ArrayList<>();
+        backplane.subscribe(BackplaneMessage.Kind.BROADCAST, message -> {
+            throw new IllegalStateException("세션 전송 실패");
+        });
+        backplane.subscribe(BackplaneMessage.Kind.BROADCAST, received::add);
+
+        assertThatCode(() -> backplane.publish(BackplaneMessage.broadcast("{}"))).doesNotThrowAnyException();
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void publishConfirmedRunsAllSubscribersThenRethrowsFirstFailure() {
+        List<BackplaneMessage> received = new ArrayList<>();
+        IllegalStateException first = new IllegalStateException("첫 번째 실패");
+        IllegalStateException second = new IllegalStateException("두 번째 실패");
+        backplane.subscribe(BackplaneMessage.Kind.USER, message -> {
+            throw first;
+        });
+        backplane.subscribe(BackplaneMessage.Kind.USER, received::add);
+        backplane.subscribe(BackplaneMessage.Kind.USER, message -> {
+            throw second;
+        });
+
+        assertThatThrownBy(() -> backplane.publishConfirmed(BackplaneMessage.user(1L, "{}")))
+                .isSameAs(first)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(second));
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void publishConfirmedSucceedsWhenAllSubscribersSucceed() {
+        List<BackplaneMessage> received = new ArrayList<>();
+        backplane.subscribe(BackplaneMessage.Kind.USER, received::add);
+
+        assertThatCode(() -> backplane.publishConfirmed(BackplaneMessage.user(1L, "{}"))).doesNotThrowAnyException();
+        assertThat(received).hasSize(1);
+    }
+}
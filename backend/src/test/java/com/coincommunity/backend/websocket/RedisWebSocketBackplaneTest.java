@@ -0,0 +1,114 @@
+package com.coincommunity.backend.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 백플레인의 자기 메시지 무시와 발행 실패 전파 확인
+ *
+ * 리스너 컨테이너는 시작하지 않고(afterPropertiesSet 미호출) onMessage를 직접 호출해
+ * Redis에서 수신한 메시지를 흉내 냅니다.
+ */
+class RedisWebSocketBackplaneTest {
+
+    private static final String CHANNEL_PREFIX = "ws:backplane:";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisWebSocketBackplane backplane;
+    private List<BackplaneMessage> received;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        backplane = new RedisWebSocketBackplane(redisTemplate, objectMapper, CHANNEL_PREFIX, "node-a");
+        received = new ArrayList<>();
+        backplane.subscribe(BackplaneMessage.Kind.USER, received::add);
+    }
+
+    @Test
+    void ignoresOwnMessageEchoedBackFromRedis() throws Exception {
+        backplane.onMessage(redisMessage(BackplaneMessage.user(1L, "{}").toBuilder().origin("node-a").build()), null);
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void deliversMessageFromOtherNode() throws Exception {
+        backplane.onMessage(redisMessage(BackplaneMessage.user(1L, "{}").toBuilder().origin("node-b").build()), null);
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getOrigin()).isEqualTo("node-b");
+        assertThat(received.get(0).getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    void publishDeliversLocallyOnceAndSendsStampedMessage() throws Exception {
+        backplane.publish(BackplaneMessage.user(1L, "{}"));
+
+        assertThat(received).hasSize(1);
+        BackplaneMessage stamped = received.get(0);
+        assertThat(stamped.getOrigin()).isEqualTo("node-a");
+        verify(redisTemplate).convertAndSend(CHANNEL_PREFIX + "user", objectMapper.writeValueAsString(stamped));
+
+        // Redis로 되돌아온 자기 메시지는 다시 전달하지 않음
+        backplane.onMessage(redisMessage(stamped), null);
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void publishKeepsLocalDeliveryWhenRedisFails() {
+        when(redisTemplate.convertAndSend(eq(CHANNEL_PREFIX + "user"), anyString()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        assertThatCode(() -> backplane.publish(BackplaneMessage.user(1L, "{}"))).doesNotThrowAnyException();
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void publishConfirmedPropagatesRedisFailureWithoutLocalDelivery() {
+        when(redisTemplate.convertAndSend(eq(CHANNEL_PREFIX + "user"), anyString()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        assertThatThrownBy(() -> backplane.publishConfirmed(BackplaneMessage.user(1L, "{}")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(RedisConnectionFailureException.class);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void publishConfirmedPropagatesLocalSubscriberFailureAfterSending() {
+        IllegalStateException failure = new IllegalStateException("세션 전송 실패");
+        backplane.subscribe(BackplaneMessage.Kind.USER, message -> {
+            throw failure;
+        });
+
+        assertThatThrownBy(() -> backplane.publishConfirmed(BackplaneMessage.user(1L, "{}"))).isSameAs(failure);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL_PREFIX + "user"), anyString());
+        assertThat(received).hasSize(1);
+    }
+
+    private DefaultMessage redisMessage(BackplaneMessage message) throws Exception {
+        return new DefaultMessage((CHANNEL_PREFIX + "user").getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(message));
+    }
+}
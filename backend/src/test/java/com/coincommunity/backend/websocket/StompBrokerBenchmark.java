@@ -0,0 +1,185 @@
+package com.coincommunity.backend.websocket;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 브로커 부하 측정
+ *
+ * 임의 포트로 애플리케이션을 띄운 뒤 /ws/stomp 엔드포인트에 STOMP 클라이언트를 여러 개 연결해
+ * 토픽을 구독시키고, SimpMessagingTemplate으로 메시지를 발행하여 전달 처리량과 지연 시간을 측정합니다.
+ * websocket.stomp.broker를 simple/relay로 바꿔 두 번 실행하면 내장 브로커와 외부 브로커를 비교할 수 있습니다.
+ * DB/Redis(및 relay 모드의 외부 브로커)가 필요하므로 STOMP_BENCHMARK=true일 때만 실행합니다.
+ *
+ * 예) STOMP_BENCHMARK=true WEBSOCKET_STOMP_BROKER=relay ./gradlew test --tests '*StompBrokerBenchmark'
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "STOMP_BENCHMARK", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StompBrokerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StompBrokerBenchmark.class);
+    private static final String DESTINATION_PREFIX = "/topic/benchmark.";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Value("${websocket.stomp.broker:simple}")
+    private String stompBroker;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Value("${benchmark.stomp.clients:200}")
+    private int clientCount;
+
+    @Value("${benchmark.stomp.destinations:20}")
+    private int destinationCount;
+
+    @Value("${benchmark.stomp.messages:2000}")
+    private int messageCount;
+
+    @Value("${benchmark.stomp.payload-bytes:256}")
+    private int payloadBytes;
+
+    @Value("${benchmark.stomp.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    @Test
+    void measureBrokerThroughput() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        // SockJS 엔드포인트는 /websocket 경로로 순수 WebSocket 연결을 받음
+        String url = "ws://localhost:" + serverPort + contextPath + "/ws/stomp/websocket";
+
+        // 목적지별 구독자 수를 세어 기대 전달 건수 계산
+        int[] subscribersPerDestination = new int[destinationCount];
+        for (int i = 0; i < clientCount; i++) {
+            subscribersPerDestination[i % destinationCount]++;
+        }
+        long expected = 0;
+        for (int i = 0; i < messageCount; i++) {
+            expected += subscribersPerDestination[i % destinationCount];
+        }
+
+        long[] latencies = new long[(int) expected];
+        AtomicInteger received = new AtomicInteger();
+        // 기록이 끝난 건마다 카운트다운하여 대기 종료 후 지연 배열을 안전하게 읽음
+        CountDownLatch done = new CountDownLatch((int) expected);
+        List<StompSession> sessions = new ArrayList<>(clientCount);
+
+        try {
+            for (int i = 0; i < clientCount; i++) {
+                StompSession session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() { })
+                        .get(10, TimeUnit.SECONDS);
+                session.subscribe(DESTINATION_PREFIX + (i % destinationCount),
+                        new LatencyRecorder(latencies, received, done));
+                sessions.add(session);
+            }
+            // 구독 프레임이 브로커에 반영될 시간을 둠
+            Thread.sleep(1000);
+
+            String padding = "x".repeat(Math.max(0, payloadBytes - 20));
+            long started = System.nanoTime();
+            for (int i = 0; i < messageCount; i++) {
+                messagingTemplate.convertAndSend(DESTINATION_PREFIX + (i % destinationCount),
+                        System.nanoTime() + "|" + padding);
+            }
+            long publishedNanos = System.nanoTime() - started;
+
+            boolean completed = done.await(timeoutSeconds, TimeUnit.SECONDS);
+            long elapsedNanos = System.nanoTime() - started;
+            report(completed, expected, received.get(), publishedNanos, elapsedNanos, latencies);
+            assertThat(completed).as("제한 시간 안에 모든 메시지 전달").isTrue();
+        } finally {
+            sessions.forEach(StompSession::disconnect);
+            stompClient.stop();
+        }
+    }
+
+    private void report(boolean completed, long expected, int received, long publishedNanos, long elapsedNanos,
+                        long[] latencies) {
+        int count = Math.min(received, latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        log.info("STOMP 브로커 부하 측정 결과: broker={}, 클라이언트={}, 목적지={}, 발행={}, 전달={}/{}{}",
+                stompBroker, clientCount, destinationCount, messageCount, received, expected,
+                completed ? "" : " (시간 초과)");
+        log.info("  발행 처리량={}/s, 전달 처리량={}/s, 소요={}ms",
+                Math.round(messageCount / (publishedNanos / 1_000_000_000.0)),
+                Math.round(received / elapsedSeconds),
+                Math.round(elapsedNanos / 1_000_000.0));
+        log.info("  지연(ms) p50={}, p95={}, p99={}, max={}",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private String percentile(long[] sorted, double ratio) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(ratio * sorted.length) - 1);
+        return String.format("%.2f", sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+
+    /**
+     * 수신한 메시지의 발행 시각으로 지연 시간 기록
+     */
+    private static final class LatencyRecorder implements StompFrameHandler {
+        private final long[] latencies;
+        private final AtomicInteger received;
+        private final CountDownLatch done;
+
+        private LatencyRecorder(long[] latencies, AtomicInteger received, CountDownLatch done) {
+            this.latencies = latencies;
+            this.received = received;
+            this.done = done;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            String body = (String) payload;
+            long sentAt = Long.parseLong(body.substring(0, body.indexOf('|')));
+            int index = received.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = now - sentAt;
+                done.countDown();
+            }
+        }
+    }
+}